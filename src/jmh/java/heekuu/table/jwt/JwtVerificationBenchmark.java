@@ -0,0 +1,92 @@
+package heekuu.table.jwt;
+
+import heekuu.table.config.TokenConfig;
+import heekuu.table.jwt.dto.VerifiedToken;
+import heekuu.table.jwt.util.JWTUtil;
+import heekuu.table.jwt.util.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JWTFilter 한 요청에서 필요한 클레임(만료, 타입, 역할, 사용자 ID)을 읽는 비용 비교
+ *
+ * - perClaimParsing: 이전 방식, 클레임마다 파싱과 HMAC 검증을 다시 수행
+ * - verifyOnce: 한 번 파싱/검증 후 VerifiedToken 에서 읽음
+ * - verifyCached: JWTUtil.verify, 검증 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+  private JwtParser parser;
+  private JWTUtil jwtUtil;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    Key key = Keys.hmacShaKeyFor(secret);
+    parser = Jwts.parser().setSigningKey(key).build();
+    jwtUtil = new JWTUtil(Encoders.BASE64.encode(secret), new TokenConfig(),
+        new VerifiedTokenCache(10_000, new SimpleMeterRegistry()));
+
+    Date now = new Date();
+    token = Jwts.builder()
+        .claim("tokenType", "access")
+        .claim("userid", 1L)
+        .claim("role", "USER")
+        .claim("nickname", "bench")
+        .claim("ver", 0L)
+        .setIssuedAt(now)
+        .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+        .signWith(key)
+        .compact();
+  }
+
+  @Benchmark
+  public void perClaimParsing(Blackhole blackhole) {
+    blackhole.consume(claims().getExpiration().before(new Date()));
+    blackhole.consume(claims().get("tokenType", String.class));
+    blackhole.consume(claims().get("role", String.class));
+    blackhole.consume(claims().get("userid", Long.class));
+  }
+
+  @Benchmark
+  public void verifyOnce(Blackhole blackhole) {
+    consume(VerifiedToken.from(claims()), blackhole);
+  }
+
+  @Benchmark
+  public void verifyCached(Blackhole blackhole) {
+    consume(jwtUtil.verify(token), blackhole);
+  }
+
+  private Claims claims() {
+    return parser.parseClaimsJws(token).getBody();
+  }
+
+  private void consume(VerifiedToken verified, Blackhole blackhole) {
+    blackhole.consume(verified.isExpired());
+    blackhole.consume(verified.getTokenType());
+    blackhole.consume(verified.getRole());
+    blackhole.consume(verified.getUserId());
+  }
+}
@@ -0,0 +1,192 @@
+package heekuu.table.jwt.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import heekuu.table.common.util.JsonResponseWriter;
+import heekuu.table.config.TokenConfig;
+import heekuu.table.jwt.util.JWTUtil;
+import heekuu.table.jwt.util.VerifiedTokenCache;
+import heekuu.table.token.service.RefreshTokenFamilyService;
+import heekuu.table.user.dto.CustomUserDetails;
+import heekuu.table.user.dto.LoginDTO;
+import heekuu.table.user.entity.User;
+import heekuu.table.user.type.Role;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 로그인/로그아웃 필터의 요청당 할당량 비교, ./gradlew jmh 의 gc 프로파일러(gc.alloc.rate.norm) 로 확인
+ *
+ * - loginFilter, logoutFilter: 현재 필터 전체 (서명, 쿠키, 응답 본문 포함)
+ * - *BodyLegacy: 이전 방식, 본문을 문자열로 모은 뒤 요청마다 ObjectMapper 를 새로 만들어 읽고 씀
+ * - *BodyCurrent: 공유 ObjectReader 로 스트림에서 바로 파싱, 고정 본문은 미리 직렬화한 바이트 재사용
+ *
+ * 목 요청/응답 생성 비용은 모든 벤치마크에 같이 포함된다. Redis 호출은 스텁으로 대체한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthFilterAllocationBenchmark {
+
+  private static final byte[] LOGIN_BODY =
+      "{\"email\":\"user@example.com\",\"password\":\"password1234\"}"
+          .getBytes(StandardCharsets.UTF_8);
+  private static final String LOGOUT_MESSAGE = "JWT 로그아웃 성공";
+  // LoginFilter 와 같은 공유 리더
+  private static final ObjectReader LOGIN_DTO_READER = new ObjectMapper().readerFor(LoginDTO.class);
+
+  private LoginFilter loginFilter;
+  private CustomLogoutFilter logoutFilter;
+  private String accessToken;
+  private String refreshToken;
+
+  @Setup
+  public void setUp() {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    JWTUtil jwtUtil = new JWTUtil(Encoders.BASE64.encode(secret), new TokenConfig(),
+        new VerifiedTokenCache(10_000, new SimpleMeterRegistry()));
+
+    User user = User.builder()
+        .userId(1L)
+        .email("user@example.com")
+        .nickname("bench")
+        .role(Role.USER)
+        .build();
+    accessToken = jwtUtil.createJwt("access", user, Role.USER.name());
+    refreshToken = jwtUtil.createRefreshJwt(user, Role.USER.name(), "bench-family");
+
+    CustomUserDetails principal = new CustomUserDetails(user);
+    UsernamePasswordAuthenticationToken authenticated = new UsernamePasswordAuthenticationToken(
+        principal, null, List.of(new SimpleGrantedAuthority(Role.USER.name())));
+
+    RefreshTokenFamilyService families = new StubFamilyService(jwtUtil, refreshToken);
+    loginFilter = new LoginFilter(authentication -> authenticated, jwtUtil, families, null);
+    logoutFilter = new CustomLogoutFilter(jwtUtil, null, families);
+  }
+
+  @Benchmark
+  public MockHttpServletResponse loginFilter() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    loginFilter.doFilter(loginRequest(), response, new MockFilterChain());
+    return response;
+  }
+
+  @Benchmark
+  public MockHttpServletResponse logoutFilter() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/users/logout");
+    request.setCookies(new Cookie("refresh", refreshToken));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    logoutFilter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  @Benchmark
+  public void loginBodyLegacy(Blackhole blackhole) throws Exception {
+    HttpServletRequest request = loginRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    BufferedReader reader = request.getReader();
+    StringBuilder json = new StringBuilder();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      json.append(line);
+    }
+    blackhole.consume(new ObjectMapper().readValue(json.toString(), LoginDTO.class));
+
+    Map<String, String> tokens = new HashMap<>();
+    tokens.put("accessToken", accessToken);
+    response.setContentType("application/json");
+    response.setCharacterEncoding("UTF-8");
+    new ObjectMapper().writeValue(response.getWriter(), tokens);
+    blackhole.consume(response);
+  }
+
+  @Benchmark
+  public void loginBodyCurrent(Blackhole blackhole) throws Exception {
+    HttpServletRequest request = loginRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    blackhole.consume(LOGIN_DTO_READER.readValue(request.getInputStream()));
+    JsonResponseWriter.writeValue(response, HttpServletResponse.SC_OK,
+        Map.of("accessToken", accessToken));
+    blackhole.consume(response);
+  }
+
+  @Benchmark
+  public MockHttpServletResponse logoutBodyLegacy() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType("application/json;charset=UTF-8");
+
+    Map<String, Object> successData = new HashMap<>();
+    successData.put("status", HttpServletResponse.SC_OK);
+    successData.put("message", LOGOUT_MESSAGE);
+    String responseBody = new ObjectMapper().writeValueAsString(successData);
+    response.getWriter().write(responseBody);
+    return response;
+  }
+
+  @Benchmark
+  public MockHttpServletResponse logoutBodyCurrent() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    JsonResponseWriter.writeMessage(response, HttpServletResponse.SC_OK, LOGOUT_MESSAGE);
+    return response;
+  }
+
+  private static MockHttpServletRequest loginRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/login");
+    request.setContentType("application/json");
+    request.setCharacterEncoding("UTF-8");
+    request.setContent(LOGIN_BODY);
+    return request;
+  }
+
+  // Redis 없이 패밀리 발급/확인을 고정값으로 대체
+  private static final class StubFamilyService extends RefreshTokenFamilyService {
+
+    private final String refreshToken;
+
+    private StubFamilyService(JWTUtil jwtUtil, String refreshToken) {
+      super(null, jwtUtil, 0);
+      this.refreshToken = refreshToken;
+    }
+
+    @Override
+    public String issue(User user, String role) {
+      return refreshToken;
+    }
+
+    @Override
+    public boolean isCurrent(Long userId, String familyId, String refreshToken) {
+      return true;
+    }
+
+    @Override
+    public void revoke(Long userId, String familyId) {
+    }
+  }
+}
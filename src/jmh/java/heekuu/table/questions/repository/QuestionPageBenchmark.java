@@ -0,0 +1,119 @@
+package heekuu.table.questions.repository;
+
+import heekuu.table.questions.entity.Question;
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.restaurantApplication;
+import heekuu.table.user.entity.User;
+import heekuu.table.user.type.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 질문 목록 한 페이지 조회의 요청당 할당량 비교, ./gradlew jmh 의 gc 프로파일러(gc.alloc.rate.norm) 로 확인
+ *
+ * - entityPage: 이전 방식, Question 엔티티 페이지 (엔티티, 영속성 컨텍스트 스냅샷, User 프록시 생성)
+ * - summaryPage: 목록 컬럼과 작성자 FK 만 읽는 projection 페이지
+ *
+ * 읽는 컬럼은 같으므로 차이는 엔티티 관리 비용이다. JPA 만 올린 컨텍스트와 H2 메모리 DB 를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionPageBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+  private static final Pageable LATEST = PageRequest.of(0, PAGE_SIZE,
+      Sort.by(Sort.Direction.DESC, "createdAt"));
+
+  private ConfigurableApplicationContext context;
+  private QuestionRepository questionRepository;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(JpaOnlyConfig.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.datasource.url=jdbc:h2:mem:question-page;DB_CLOSE_DELAY=-1",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.jpa.open-in-view=false")
+        .run();
+    questionRepository = context.getBean(QuestionRepository.class);
+
+    EntityManager entityManager = context.getBean(EntityManagerFactory.class)
+        .createEntityManager();
+    try {
+      entityManager.getTransaction().begin();
+      User author = User.builder()
+          .username("author")
+          .email("author@example.com")
+          .nickname("author")
+          .role(Role.USER)
+          .build();
+      entityManager.persist(author);
+      for (int i = 0; i < PAGE_SIZE; i++) {
+        entityManager.persist(Question.builder()
+            .user(author)
+            .title("title-" + i)
+            .subjectName(i % 2 == 0 ? SubjectNames.NEWS : SubjectNames.LIFE)
+            .content("content-" + i)
+            .build());
+      }
+      entityManager.getTransaction().commit();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  // 호출마다 새 영속성 컨텍스트에서 조회 (리포지토리 기본 트랜잭션)
+  @Benchmark
+  public Page<String> entityPage() {
+    return questionRepository.findAll(LATEST)
+        .map(question -> question.getTitle() + question.getUser().getUserId());
+  }
+
+  @Benchmark
+  public Page<String> summaryPage() {
+    return questionRepository.findSummaries(LATEST)
+        .map(summary -> summary.title() + summary.userId());
+  }
+
+  // 웹, 보안, Redis 없이 JPA 만 구성
+  @Configuration
+  @ImportAutoConfiguration({DataSourceAutoConfiguration.class,
+      HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+  @EntityScan(basePackageClasses = restaurantApplication.class)
+  @EnableJpaRepositories(basePackageClasses = QuestionRepository.class)
+  @EnableJpaAuditing
+  static class JpaOnlyConfig {
+
+  }
+}
@@ -0,0 +1,109 @@
+package heekuu.table.search.index;
+
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.search.dto.AnswerDocument;
+import heekuu.table.search.dto.QuestionDocument;
+import heekuu.table.search.index.InvertedIndex.SearchFilter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 합성 한국어 말뭉치에서 분석기별 색인 처리량과 검색 지연 비교
+ *
+ * - indexCorpus: 질문 questions 건과 질문당 답변 2건을 새 색인에 넣는 시간 (처리량은 문서 수 / 시간)
+ * - searchWord: 조사가 붙은 복합명사로 색인된 단어 검색
+ * - searchChoseong: 초성 검색 (standard 분석기는 결과 없음)
+ *
+ * 말뭉치는 고정 시드로 만들어 실행마다 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchIndexBenchmark {
+
+  private static final String[] NOUNS = {
+      "수학", "문제", "미분", "적분", "함수", "방정식", "확률", "통계", "기하", "벡터",
+      "사회", "역사", "경제", "정치", "문화", "과학", "물리", "화학", "생물", "지구",
+      "영어", "문법", "단어", "독해", "작문", "시험", "공부", "숙제", "질문", "답변"
+  };
+  private static final String[] PARTICLES = {"", "는", "은", "이", "가", "를", "을", "에서", "의", "도"};
+  private static final String[] ENDINGS = {"어렵다", "궁금합니다", "알려주세요", "모르겠어요", "풀었어요"};
+  private static final SearchFilter NO_FILTER = new SearchFilter(null, null);
+
+  @Param({"standard", "korean-ngram"})
+  public String analyzerName;
+
+  @Param({"10000"})
+  public int questions;
+
+  private List<QuestionDocument> questionDocuments;
+  private List<AnswerDocument> answerDocuments;
+  private InvertedIndex index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    questionDocuments = new ArrayList<>(questions);
+    answerDocuments = new ArrayList<>(questions * 2);
+    long answerId = 1;
+    for (long questionId = 1; questionId <= questions; questionId++) {
+      questionDocuments.add(new QuestionDocument(questionId, sentence(random, 3),
+          sentence(random, 20), SubjectNames.values()[random.nextInt(3)], random.nextBoolean()));
+      for (int i = 0; i < 2; i++) {
+        answerDocuments.add(new AnswerDocument(answerId++, questionId, sentence(random, 30)));
+      }
+    }
+    index = buildIndex();
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public InvertedIndex indexCorpus() {
+    return buildIndex();
+  }
+
+  @Benchmark
+  public List<InvertedIndex.Hit> searchWord() {
+    return index.search("미분 문제", NO_FILTER, null, 20);
+  }
+
+  @Benchmark
+  public List<InvertedIndex.Hit> searchChoseong() {
+    return index.search("ㅁㅂ", NO_FILTER, null, 20);
+  }
+
+  private InvertedIndex buildIndex() {
+    InvertedIndex built = new InvertedIndex(analyzer());
+    questionDocuments.forEach(built::indexQuestion);
+    answerDocuments.forEach(built::indexAnswer);
+    return built;
+  }
+
+  private Analyzer analyzer() {
+    return "standard".equals(analyzerName) ? new StandardAnalyzer() : new KoreanNgramAnalyzer();
+  }
+
+  // 명사 + 조사를 띄어쓰기 없이 붙이기도 하는 문장
+  private static String sentence(Random random, int words) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < words; i++) {
+      if (i > 0 && random.nextInt(3) > 0) {
+        sentence.append(' ');
+      }
+      sentence.append(NOUNS[random.nextInt(NOUNS.length)])
+          .append(PARTICLES[random.nextInt(PARTICLES.length)]);
+    }
+    return sentence.append(' ').append(ENDINGS[random.nextInt(ENDINGS.length)]).toString();
+  }
+}
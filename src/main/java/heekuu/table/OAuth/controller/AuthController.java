@@ -1,11 +1,11 @@
 package heekuu.table.OAuth.controller;
 
 import heekuu.table.jwt.util.JWTUtil;
-import heekuu.table.token.entity.RefreshToken;
-import heekuu.table.token.repository.RefreshTokenRepository;
+import heekuu.table.token.service.RefreshTokenFamilyService;
 
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
+import heekuu.table.user.service.UsernameAllocator;
 import heekuu.table.user.type.LoginType;
 import heekuu.table.user.type.Role;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +16,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 
 @RestController
@@ -26,14 +25,16 @@ public class AuthController {
   private final JWTUtil jwtUtil;
   private final UserRepository userRepository;
   private final RestTemplate restTemplate;
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
+  private final UsernameAllocator usernameAllocator;
 
   @Autowired
   public AuthController(JWTUtil jwtUtil, UserRepository userRepository,
-      RefreshTokenRepository refreshTokenRepository) {
+      RefreshTokenFamilyService refreshTokenFamilyService, UsernameAllocator usernameAllocator) {
     this.jwtUtil = jwtUtil;
     this.userRepository = userRepository;
-    this.refreshTokenRepository = refreshTokenRepository;
+    this.refreshTokenFamilyService = refreshTokenFamilyService;
+    this.usernameAllocator = usernameAllocator;
     this.restTemplate = new RestTemplate();
   }
 
@@ -55,20 +56,13 @@ public class AuthController {
         .orElseGet(() -> createUser(email, nickname, provider, providerId));
 
     String newAccessToken = jwtUtil.createJwt("access", user, user.getRole().name());
-    String newRefreshToken = jwtUtil.createJwt("refresh", user, user.getRole().name());
-
-    saveRefreshToken(user, newRefreshToken);
+    // 패밀리 토큰은 패밀리 키로만 검증하므로 이전 토큰 저장소에는 쓰지 않는다
+    String newRefreshToken = refreshTokenFamilyService.issue(user, user.getRole().name());
 
     return ResponseEntity.ok(
         Map.of("access_token", newAccessToken, "refresh_token", newRefreshToken));
   }
 
-  private void saveRefreshToken(User user, String refreshToken) {
-    refreshTokenRepository.deleteByUserId(user.getUserId()); // 기존 토큰 삭제
-    RefreshToken tokenEntity = new RefreshToken(user, refreshToken, LocalDateTime.now().plusDays(7));
-    refreshTokenRepository.save(tokenEntity);
-  }
-
   private Map<String, Object> getUserInfo(String provider, String accessToken) {
     String userInfoUrl;
     switch (provider.toLowerCase()) {
@@ -126,18 +120,6 @@ public class AuthController {
     newUser.setProviderId(providerId);
     newUser.setLoginType(LoginType.valueOf(provider.toUpperCase()));
     newUser.setRole(Role.USER);
-    newUser.setUsername(generateUniqueUsername(email));
-    return userRepository.save(newUser);
-  }
-
-  private String generateUniqueUsername(String email) {
-    String baseUsername = email.split("@")[0];
-    String username = baseUsername;
-    int counter = 1;
-    while (userRepository.existsByUsername(username)) {
-      username = baseUsername + counter;
-      counter++;
-    }
-    return username;
+    return usernameAllocator.saveWithUniqueUsername(newUser, email);
   }
 }
\ No newline at end of file
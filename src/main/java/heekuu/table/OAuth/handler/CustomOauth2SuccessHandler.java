@@ -1,11 +1,13 @@
 package heekuu.table.OAuth.handler;
 
 import heekuu.table.jwt.util.JWTUtil;
-import heekuu.table.token.entity.RefreshToken;
-import heekuu.table.token.repository.RefreshTokenRepository;
+import heekuu.table.token.service.RefreshTokenFamilyService;
 
+import heekuu.table.user.dto.CustomUserDetails;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
+import heekuu.table.user.service.UserPrincipalCache;
+import heekuu.table.user.service.UsernameAllocator;
 import heekuu.table.user.type.LoginType;
 import heekuu.table.user.type.Role;
 import jakarta.servlet.ServletException;
@@ -14,26 +16,29 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.net.URLEncoder;
-import java.util.Date;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Component
 public class CustomOauth2SuccessHandler implements AuthenticationSuccessHandler {
 
   private final JWTUtil jwtUtil;
   private final UserRepository userRepository;
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
+  private final UsernameAllocator usernameAllocator;
+  private final UserPrincipalCache userPrincipalCache;
 
   public CustomOauth2SuccessHandler(JWTUtil jwtUtil, UserRepository userRepository,
-      RefreshTokenRepository refreshTokenRepository) {
+      RefreshTokenFamilyService refreshTokenFamilyService, UsernameAllocator usernameAllocator, UserPrincipalCache userPrincipalCache) {
     this.jwtUtil = jwtUtil;
     this.userRepository = userRepository;
-    this.refreshTokenRepository = refreshTokenRepository;
+    this.refreshTokenFamilyService = refreshTokenFamilyService;
+    this.usernameAllocator = usernameAllocator;
+    this.userPrincipalCache = userPrincipalCache;
   }
 
 
@@ -49,18 +54,20 @@ public class CustomOauth2SuccessHandler implements AuthenticationSuccessHandler
     String provider = oAuth2User.getAttribute("provider");
     String providerId = oAuth2User.getAttribute("providerId");
 
-    // 3. 사용자 엔티티 조회 또는 생성
-    User user = userRepository.findByEmail(email)
-        .orElseGet(() -> createUser(email, name, provider, providerId));
+    // 3. 사용자 조회 (loadUser 에서 채운 principal 캐시 사용, 없으면 이메일로 조회 또는 생성)
+    Long userId = oAuth2User.getAttribute("userId");
+    User user = Optional.ofNullable(userId)
+        .flatMap(userPrincipalCache::get)
+        .map(CustomUserDetails::getUser)
+        .orElseGet(() -> userRepository.findByEmail(email)
+            .orElseGet(() -> createUser(email, name, provider, providerId)));
 
     // 4. JWT 토큰 생성
     String accessToken = jwtUtil.createJwt("access", user, user.getRole().name()); // 1시간
-    String refreshToken = jwtUtil.createJwt("refresh", user, user.getRole().name()); // 7일
+    // 패밀리 토큰은 패밀리 키로만 검증하므로 이전 토큰 저장소에는 쓰지 않는다
+    String refreshToken = refreshTokenFamilyService.issue(user, user.getRole().name()); // 7일
 
-    // 5. 리프레시 토큰 저장
-    saveRefreshToken(user, refreshToken);
-
-    // 6. 쿠키 설정
+    // 5. 쿠키 설정
     addCookie(response, "accessToken", accessToken, (int) jwtUtil.getAccessTokenExpiration() / 1000); // 만료 시간을 초로 설정
     addCookie(response, "refreshToken", refreshToken, (int) jwtUtil.getRefreshTokenExpiration() / 1000); // 만료 시간을 초로 설정
 
@@ -77,8 +84,7 @@ public class CustomOauth2SuccessHandler implements AuthenticationSuccessHandler
     newUser.setProviderId(providerId);
     newUser.setLoginType(LoginType.valueOf(provider.toUpperCase()));
     newUser.setRole(Role.USER);
-    newUser.setUsername(generateUniqueUsername(email));
-    return userRepository.save(newUser);
+    return usernameAllocator.saveWithUniqueUsername(newUser, email);
   }
 
   // 쿠키 추가 메서드
@@ -92,32 +98,4 @@ public class CustomOauth2SuccessHandler implements AuthenticationSuccessHandler
   }
 
 
-    // 리프레시 토큰 저장 메서드
-  @Transactional
-  private void saveRefreshToken(User user, String refreshToken) {
-    System.out.println("Saving refresh token for user: " + user.getEmail());
-    // 기존 리프레시 토큰 삭제
-    refreshTokenRepository.deleteByUserId(user.getUserId());
-
-    // 새로운 리프레시 토큰 저장
-    RefreshToken tokenEntity = new RefreshToken();
-    tokenEntity.setUser(user);
-    tokenEntity.setRefresh(refreshToken);
-    tokenEntity.setExpiration(new Date(System.currentTimeMillis() + 604800000L).toString());
-    refreshTokenRepository.save(tokenEntity);
-    System.out.println("Refresh token saved successfully.");
-  }
-
-
-  // 유니크한 사용자명 생성 메서드
-  private String generateUniqueUsername(String email) {
-    String baseUsername = email.split("@")[0];
-    String username = baseUsername;
-    int counter = 1;
-    while (userRepository.existsByUsername(username)) {
-      username = baseUsername + counter;
-      counter++;
-    }
-    return username;
-  }
 }
\ No newline at end of file
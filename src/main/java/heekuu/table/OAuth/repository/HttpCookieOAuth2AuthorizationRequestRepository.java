@@ -0,0 +1,158 @@
+package heekuu.table.OAuth.repository;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+
+/**
+ * OAuth2 인가 요청을 HTTP 세션 대신 서명된 쿠키에 저장하는 저장소
+ *
+ * 쿠키 값은 "직렬화된 요청.만료시각.HMAC" 형태이며, 서명과 만료시각이 모두 맞을 때만 역직렬화한다.
+ * 콜백이 어느 노드로 들어와도 처리할 수 있으므로 sticky session 이 필요 없다.
+ */
+@Slf4j
+@Component
+public class HttpCookieOAuth2AuthorizationRequestRepository implements
+    AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+  static final String COOKIE_NAME = "OAUTH2_AUTH_REQUEST";
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final SecretKeySpec signingKey;
+  private final int maxAgeSeconds;
+
+  public HttpCookieOAuth2AuthorizationRequestRepository(
+      @Value("${oauth2.authorization-cookie.secret:${spring.jwt.secret}}") String secret,
+      @Value("${oauth2.authorization-cookie.max-age-seconds:180}") int maxAgeSeconds) {
+    this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    this.maxAgeSeconds = maxAgeSeconds;
+  }
+
+  @Override
+  public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+    String state = request.getParameter(OAuth2ParameterNames.STATE);
+    if (state == null) {
+      return null;
+    }
+    OAuth2AuthorizationRequest authorizationRequest = readCookie(request);
+    if (authorizationRequest == null || !state.equals(authorizationRequest.getState())) {
+      return null;
+    }
+    return authorizationRequest;
+  }
+
+  @Override
+  public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+      HttpServletRequest request, HttpServletResponse response) {
+    if (authorizationRequest == null) {
+      writeCookie(response, "", 0);
+      return;
+    }
+    writeCookie(response, encode(authorizationRequest), maxAgeSeconds);
+  }
+
+  @Override
+  public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+      HttpServletResponse response) {
+    OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+    if (authorizationRequest != null) {
+      writeCookie(response, "", 0);
+    }
+    return authorizationRequest;
+  }
+
+  private OAuth2AuthorizationRequest readCookie(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return null;
+    }
+    for (Cookie cookie : cookies) {
+      if (COOKIE_NAME.equals(cookie.getName())) {
+        return decode(cookie.getValue());
+      }
+    }
+    return null;
+  }
+
+  private String encode(OAuth2AuthorizationRequest authorizationRequest) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(authorizationRequest);
+    } catch (IOException e) {
+      throw new IllegalStateException("OAuth2 인가 요청 직렬화 실패", e);
+    }
+    String payload = ENCODER.encodeToString(bytes.toByteArray());
+    long expiresAt = System.currentTimeMillis() + maxAgeSeconds * 1000L;
+    String signed = payload + "." + expiresAt;
+    return signed + "." + ENCODER.encodeToString(sign(signed));
+  }
+
+  private OAuth2AuthorizationRequest decode(String value) {
+    int signatureStart = value.lastIndexOf('.');
+    int expiresStart = signatureStart > 0 ? value.lastIndexOf('.', signatureStart - 1) : -1;
+    if (expiresStart <= 0) {
+      return null;
+    }
+
+    try {
+      String signed = value.substring(0, signatureStart);
+      byte[] signature = DECODER.decode(value.substring(signatureStart + 1));
+      if (!MessageDigest.isEqual(sign(signed), signature)) {
+        log.debug("OAuth2 인가 요청 쿠키 서명 불일치");
+        return null;
+      }
+      long expiresAt = Long.parseLong(value.substring(expiresStart + 1, signatureStart));
+      if (expiresAt <= System.currentTimeMillis()) {
+        return null;
+      }
+
+      byte[] payload = DECODER.decode(value.substring(0, expiresStart));
+      try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+        return (OAuth2AuthorizationRequest) in.readObject();
+      }
+    } catch (IllegalArgumentException | IOException | ClassNotFoundException | ClassCastException e) {
+      log.debug("OAuth2 인가 요청 쿠키 해석 실패: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private byte[] sign(String value) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      return mac.doFinal(value.getBytes(StandardCharsets.US_ASCII));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC 서명 실패", e);
+    }
+  }
+
+  private void writeCookie(HttpServletResponse response, String value, int maxAge) {
+    Cookie cookie = new Cookie(COOKIE_NAME, value);
+    cookie.setHttpOnly(true);
+    cookie.setSecure(false); // 배포 시 true로 설정
+    cookie.setPath("/");
+    cookie.setMaxAge(maxAge);
+    // 제공자에서 돌아오는 top-level 리다이렉트에는 전송되어야 하므로 Lax
+    cookie.setAttribute("SameSite", "Lax");
+    response.addCookie(cookie);
+  }
+}
@@ -5,8 +5,12 @@ import heekuu.table.OAuth.dto.KakaoResponse;
 import heekuu.table.OAuth.dto.NaverResponse;
 import heekuu.table.OAuth.dto.OAuth2Response;
 
+import heekuu.table.user.dto.CustomUserDetails;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
+import heekuu.table.user.service.ProviderIdentityCache;
+import heekuu.table.user.service.UserPrincipalCache;
+import heekuu.table.user.service.UsernameAllocator;
 import heekuu.table.user.type.LoginType;
 import heekuu.table.user.type.Role;
 import java.util.Collections;
@@ -26,6 +30,9 @@ import org.springframework.stereotype.Service;
 public class CustomOauth2UserServiceImpl extends DefaultOAuth2UserService {
 
   private final UserRepository userRepository;
+  private final UsernameAllocator usernameAllocator;
+  private final UserPrincipalCache userPrincipalCache;
+  private final ProviderIdentityCache providerIdentityCache;
 
 
 
@@ -51,19 +58,12 @@ public class CustomOauth2UserServiceImpl extends DefaultOAuth2UserService {
     String email = oAuth2Response.getEmail();
     String actualUsername = oAuth2Response.getName();
 
-    // 이미 존재하는 사용자 처리
-    Optional<User> existingUser = userRepository.findByEmail(email);
-    if (existingUser.isPresent()) {
-      LoginType existingLoginType = existingUser.get().getLoginType();
-      LoginType currentLoginType = LoginType.valueOf(provider.toUpperCase());
-      if (!existingLoginType.equals(currentLoginType)) {
-        throw new IllegalArgumentException("이미 " + existingLoginType + " 계정으로 가입된 이메일입니다.");
-      }
-    }
+    LoginType loginType = LoginType.valueOf(provider.toUpperCase());
+    String providerId = oAuth2Response.getProviderId();
 
-    // 사용자 생성 또는 로드
-    User user = userRepository.findByProviderId(oAuth2Response.getProviderId())
-        .orElseGet(() -> createUser(oAuth2Response, provider));
+    // 사용자 조회 (캐시 → 식별자 단건 조회 → 신규 가입 순)
+    User user = resolveUser(loginType, providerId)
+        .orElseGet(() -> register(oAuth2Response, loginType));
 
     // 권한 설정
     SimpleGrantedAuthority authority = new SimpleGrantedAuthority(user.getRole().name());
@@ -73,7 +73,8 @@ public class CustomOauth2UserServiceImpl extends DefaultOAuth2UserService {
     attributes.put("email", email);
     attributes.put("name", actualUsername);
     attributes.put("provider", provider);
-    attributes.put("providerId", oAuth2Response.getProviderId());
+    attributes.put("providerId", providerId);
+    attributes.put("userId", user.getUserId()); // 성공 핸들러가 다시 조회하지 않도록 전달
 
     // OAuth2User 반환
     return new DefaultOAuth2User(
@@ -83,25 +84,50 @@ public class CustomOauth2UserServiceImpl extends DefaultOAuth2UserService {
     );
   }
 
-  private User createUser(OAuth2Response oAuth2Response, String provider) {
+  /**
+   * 기존 소셜 사용자를 조회합니다.
+   * 식별자 캐시가 맞으면 principal 캐시만 읽고, 아니면 (loginType, providerId) 인덱스로 한 번만 조회합니다.
+   */
+  private Optional<User> resolveUser(LoginType loginType, String providerId) {
+    Long cachedUserId = providerIdentityCache.get(loginType, providerId);
+    if (cachedUserId != null) {
+      Optional<CustomUserDetails> cached = userPrincipalCache.get(cachedUserId);
+      if (cached.isPresent()) {
+        return Optional.of(cached.get().getUser());
+      }
+      // 탈퇴 등으로 사라진 사용자
+      providerIdentityCache.evict(loginType, providerId);
+    }
+
+    Optional<User> user = userPrincipalCache
+        .load(() -> userRepository.findByLoginTypeAndProviderId(loginType, providerId))
+        .map(CustomUserDetails::getUser);
+    user.ifPresent(found -> providerIdentityCache.put(loginType, providerId, found.getUserId()));
+    return user;
+  }
+
+  // 신규 가입, 이메일 중복 검사는 처음 가입할 때만 필요
+  private User register(OAuth2Response oAuth2Response, LoginType loginType) {
+    userRepository.findByEmail(oAuth2Response.getEmail()).ifPresent(existing -> {
+      throw new IllegalArgumentException("이미 " + existing.getLoginType() + " 계정으로 가입된 이메일입니다.");
+    });
+
+    User user = userPrincipalCache
+        .load(() -> Optional.of(createUser(oAuth2Response, loginType)))
+        .map(CustomUserDetails::getUser)
+        .orElseThrow();
+    providerIdentityCache.put(loginType, oAuth2Response.getProviderId(), user.getUserId());
+    return user;
+  }
+
+  private User createUser(OAuth2Response oAuth2Response, LoginType loginType) {
     User newUser = new User();
     newUser.setEmail(oAuth2Response.getEmail());
     newUser.setNickname(oAuth2Response.getName());
     newUser.setProviderId(oAuth2Response.getProviderId());
-    newUser.setLoginType(LoginType.valueOf(provider.toUpperCase()));
+    newUser.setLoginType(loginType);
     newUser.setRole(Role.USER);
-    newUser.setUsername(generateUniqueUsername(oAuth2Response.getEmail()));
-    return userRepository.save(newUser);
-  }
-   // 중복된 아이디 X
-  private String generateUniqueUsername(String email) {
-    String baseUsername = email.split("@")[0];
-    String username = baseUsername;
-    int counter = 1;
-    while (userRepository.existsByUsername(username)) {
-      username = baseUsername + counter;
-      counter++;
-    }
-    return username;
+    // 중복된 아이디 X
+    return usernameAllocator.saveWithUniqueUsername(newUser, oAuth2Response.getEmail());
   }
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package heekuu.table.answer.controller;
 
 import heekuu.table.answer.dto.AnswerDTO;
 import heekuu.table.answer.service.AnswerService;
+import heekuu.table.common.util.SecurityUtil;
+import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,17 +16,22 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/answers")
 public class AnswerController {
 
+    private static final int MAX_LIKE_LOOKUP_SIZE = 100;
+
     private final AnswerService answerService;
+    private final SecurityUtil securityUtil;
 
     @Autowired
-    public AnswerController(AnswerService answerService) {
+    public AnswerController(AnswerService answerService, SecurityUtil securityUtil) {
         this.answerService = answerService;
+        this.securityUtil = securityUtil;
     }
 
     // 특정 ID로 답변 조회 (모든사용자)
@@ -56,20 +64,29 @@ public class AnswerController {
         return ResponseEntity.noContent().build();
     }
 
-    // 답변 좋아요
+    // 답변 좋아요 (이미 누른 경우 변화 없음)
     @PostMapping("/{answerId}/like")
     public ResponseEntity<Void> likeAnswer(@PathVariable("answerId") Long id) {
-        answerService.likeAnswer(id);
+        answerService.likeAnswer(id, securityUtil.getCurrentUserId());
         return ResponseEntity.ok().build();
     }
 
-    // 답변 좋아요 취소
+    // 답변 좋아요 취소 (누르지 않은 경우 변화 없음)
     @DeleteMapping("/{answerId}/like")
     public ResponseEntity<Void> unlikeAnswer(@PathVariable("answerId") Long id) {
-        answerService.unlikeAnswer(id);
+        answerService.unlikeAnswer(id, securityUtil.getCurrentUserId());
         return ResponseEntity.ok().build();
     }
 
+    // 로그인한 사용자가 각 답변에 좋아요를 눌렀는지 조회 (목록 화면용)
+    @GetMapping("/likes/me")
+    public ResponseEntity<Map<Long, Boolean>> getLikedAnswers(@RequestParam List<Long> answerIds) {
+        if (answerIds.size() > MAX_LIKE_LOOKUP_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(answerService.getLikedAnswers(securityUtil.getCurrentUserId(), answerIds));
+    }
+
     // 답변 채택
     @PatchMapping("/questions/{questionId}/select-answer/{answerId}")
     public ResponseEntity<Void> selectAnswer(@PathVariable("questionId") Long questionId, @PathVariable("answerId") Long answerId) {
@@ -60,7 +60,8 @@ public class Answer extends BaseEntity {
     @Column(length = 255)
     private String image;
 
-    @Column
+    // AnswerLikeCounter 가 증감을 모아 직접 UPDATE 하므로, 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(updatable = false)
     private Integer likes = 0;
 
     @Column(name = "is_selected", nullable = false)
@@ -79,20 +80,6 @@ public class Answer extends BaseEntity {
         this.isSelected = isSelected;
     }
 
-    // 좋아요 증가 메서드
-    public void incrementLikes() {
-        this.likes += 1;
-    }
-
-    // 좋아요 감소 메서드
-    public void decrementLikes() {
-        if (this.likes > 0) {
-            this.likes -= 1;
-        } else {
-            throw new IllegalStateException("좋아요를 취소할 수 없습니다.");
-        }
-    }
-
     // 답변 채택 메서드
     public void selectAnswer() {
         this.isSelected = true;
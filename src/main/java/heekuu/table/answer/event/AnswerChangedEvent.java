@@ -0,0 +1,14 @@
+package heekuu.table.answer.event;
+
+/**
+ * 답변이 생성, 수정, 삭제되었음을 알리는 도메인 이벤트 (커밋 이후 처리)
+ *
+ * @param answerId   변경된 답변 ID
+ * @param questionId 답변이 속한 질문 ID
+ * @param created    생성 여부
+ * @param deleted    삭제 여부
+ */
+public record AnswerChangedEvent(Long answerId, Long questionId, boolean created,
+                                 boolean deleted) {
+
+}
@@ -0,0 +1,13 @@
+package heekuu.table.answer.event;
+
+/**
+ * 답변 좋아요 상태가 실제로 바뀌었음을 알리는 도메인 이벤트
+ *
+ * @param answerId   답변 ID
+ * @param questionId 답변이 속한 질문 ID
+ * @param userId     좋아요를 누르거나 취소한 사용자 ID
+ * @param delta      좋아요면 1, 취소면 -1
+ */
+public record AnswerLikedEvent(Long answerId, Long questionId, Long userId, int delta) {
+
+}
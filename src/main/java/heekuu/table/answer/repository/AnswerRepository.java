@@ -1,8 +1,12 @@
 package heekuu.table.answer.repository;
 
 import heekuu.table.answer.entity.Answer;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +17,18 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     // 특정 질문에 채택된 답변이 있는지 확인
     Optional<Answer> findByQuestion_QuestionIdAndIsSelectedTrue(Long questionId);
 
+    // 답변과 댓글을 한 번의 조인 쿼리로 조회 (댓글마다 추가 쿼리 없음)
+    // 작성자는 ID 만 쓰므로 조인하지 않음, User 의 mappedBy 일대일(Count, RefreshToken) 은
+    // 지연 로딩이 되지 않아 작성자를 함께 읽으면 작성자마다 추가 조회가 발생함
+    @EntityGraph(attributePaths = "comments")
+    @Query("SELECT a FROM Answer a WHERE a.answerId = :answerId")
+    Optional<Answer> findWithCommentsByAnswerId(@Param("answerId") Long answerId);
+
+    @Query("SELECT a.question.questionId FROM Answer a WHERE a.answerId = :answerId")
+    Optional<Long> findQuestionIdByAnswerId(@Param("answerId") Long answerId);
+
+    // 질문 삭제 시 함께 지워지는 답변 ID (엔티티를 읽지 않음)
+    @Query("SELECT a.answerId FROM Answer a WHERE a.question.questionId = :questionId")
+    List<Long> findAnswerIdsByQuestionId(@Param("questionId") Long questionId);
+
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package heekuu.table.answer.service;
+
+import heekuu.table.common.util.RedisLock;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 답변 좋아요 수의 write-behind 카운터
+ *
+ * 좋아요/취소는 answers 행을 잠그지 않고 Redis 해시에 HINCRBY 로 증감만 쌓고, 스케줄 작업이 모인 증감을
+ * 한 번의 배치 UPDATE 로 answers.likes 에 더한다. 읽을 때는 DB 값에 아직 반영되지 않은 증감을 더하므로
+ * 좋아요를 누른 사용자도 바로 바뀐 값을 본다.
+ *
+ * 반영 중에는 PENDING 해시를 FLUSHING 으로 옮겨 두고, 모든 배치를 한 트랜잭션으로 반영한 뒤 커밋된
+ * 필드만 FLUSHING 에서 HDEL 한다. DB 반영이 실패하면 전부 롤백되고 FLUSHING 이 그대로 남아 다음 실행에서
+ * 다시 시도하므로 일부만 두 번 더해지는 일은 없다. 커밋 직후 HDEL 전에 Redis 가 끊기는 경우에만 그 주기의
+ * 증감이 한 번 더 반영될 수 있다.
+ */
+@Slf4j
+@Component
+public class AnswerLikeCounter {
+
+  private static final String PENDING_KEY = "ANSWER_LIKES:PENDING";
+  private static final String FLUSHING_KEY = "ANSWER_LIKES:FLUSHING";
+  private static final String LOCK_NAME = "answer-like-flush";
+  private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+  // 이전 반영이 남아 있지 않을 때만 PENDING 을 FLUSHING 으로 이동, 반영할 해시가 있으면 1
+  // (PENDING 이 없으면 RENAMENX 가 no such key 오류를 내므로 먼저 확인)
+  private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[2]) == 1 then\n"
+          + "  return 1\n"
+          + "end\n"
+          + "if redis.call('EXISTS', KEYS[1]) == 0 then\n"
+          + "  return 0\n"
+          + "end\n"
+          + "return redis.call('RENAMENX', KEYS[1], KEYS[2])\n",
+      Long.class);
+
+  private static final String APPLY_SQL =
+      "UPDATE answers SET likes = GREATEST(COALESCE(likes, 0) + ?, 0) WHERE answer_id = ?";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final RedisLock redisLock;
+  private final int batchSize;
+
+  public AnswerLikeCounter(StringRedisTemplate stringRedisTemplate, JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate, RedisLock redisLock,
+      @Value("${answer.likes.flush-batch-size:500}") int batchSize) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.redisLock = redisLock;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 좋아요 수를 delta 만큼 증감합니다. Redis 에 접근할 수 없으면 DB 에 바로 반영합니다.
+   */
+  public void add(Long answerId, long delta) {
+    try {
+      stringRedisTemplate.opsForHash().increment(PENDING_KEY, answerId.toString(), delta);
+    } catch (DataAccessException e) {
+      log.warn("좋아요 카운터 Redis 반영 실패, DB 에 직접 반영: {}", e.getMessage());
+      jdbcTemplate.update(APPLY_SQL, delta, answerId);
+    }
+  }
+
+  /**
+   * DB 값에 더할, 아직 반영되지 않은 증감 (반영 중인 값 포함)
+   */
+  public long pendingDelta(Long answerId) {
+    try {
+      // 두 해시를 한 번의 왕복으로 조회
+      byte[] field = answerId.toString().getBytes(StandardCharsets.UTF_8);
+      List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        connection.hashCommands().hGet(PENDING_KEY.getBytes(StandardCharsets.UTF_8), field);
+        connection.hashCommands().hGet(FLUSHING_KEY.getBytes(StandardCharsets.UTF_8), field);
+        return null;
+      });
+      long delta = 0;
+      for (Object value : values) {
+        if (value != null) {
+          delta += Long.parseLong(value.toString());
+        }
+      }
+      return delta;
+    } catch (DataAccessException e) {
+      return 0;
+    }
+  }
+
+  // DB 값과 반영 전 증감을 합친 좋아요 수 (음수가 되지 않도록 보정)
+  public int currentLikes(Long answerId, Integer storedLikes) {
+    long likes = (storedLikes != null ? storedLikes : 0) + pendingDelta(answerId);
+    return (int) Math.max(likes, 0);
+  }
+
+  @Scheduled(fixedDelayString = "${answer.likes.flush-interval-ms:5000}")
+  public void flush() {
+    Optional<String> lock = redisLock.tryLock(LOCK_NAME, LOCK_TTL);
+    if (lock.isEmpty()) {
+      return;
+    }
+    try {
+      Long rotated = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY));
+      if (rotated == null || rotated == 0) {
+        return;
+      }
+      Map<Object, Object> deltas = stringRedisTemplate.opsForHash().entries(FLUSHING_KEY);
+      if (deltas.isEmpty()) {
+        return;
+      }
+      // 모든 배치를 한 트랜잭션으로 반영, 실패하면 전부 롤백되어 FLUSHING 을 그대로 재시도
+      transactionTemplate.executeWithoutResult(status -> apply(deltas));
+      // 커밋된 필드만 제거 (마지막 필드가 지워지면 FLUSHING 키도 사라짐)
+      stringRedisTemplate.opsForHash().delete(FLUSHING_KEY, deltas.keySet().toArray());
+      log.debug("답변 좋아요 증감 {}건 반영", deltas.size());
+    } catch (DataAccessException | TransactionException e) {
+      log.warn("답변 좋아요 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+    } finally {
+      redisLock.unlock(LOCK_NAME, lock.get());
+    }
+  }
+
+  private void apply(Map<Object, Object> deltas) {
+    List<Object[]> batch = new ArrayList<>(Math.min(deltas.size(), batchSize));
+    for (Map.Entry<Object, Object> entry : deltas.entrySet()) {
+      long delta = Long.parseLong(entry.getValue().toString());
+      if (delta == 0) {
+        continue;
+      }
+      batch.add(new Object[]{delta, Long.parseLong(entry.getKey().toString())});
+      if (batch.size() == batchSize) {
+        jdbcTemplate.batchUpdate(APPLY_SQL, batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      jdbcTemplate.batchUpdate(APPLY_SQL, batch);
+    }
+  }
+}
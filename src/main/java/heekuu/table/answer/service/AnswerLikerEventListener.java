@@ -0,0 +1,25 @@
+package heekuu.table.answer.service;
+
+import heekuu.table.answer.event.AnswerChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 삭제된 답변(질문 삭제로 함께 지워진 답변 포함)의 좋아요 사용자 집합을 커밋 이후 제거
+ * (트랜잭션 밖에서 발행된 이벤트는 즉시 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerLikerEventListener {
+
+  private final AnswerLikerSet answerLikerSet;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onAnswerChanged(AnswerChangedEvent event) {
+    if (event.deleted()) {
+      answerLikerSet.deleteAll(event.answerId());
+    }
+  }
+}
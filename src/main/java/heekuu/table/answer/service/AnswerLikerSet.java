@@ -0,0 +1,217 @@
+package heekuu.table.answer.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 답변별 좋아요 누른 사용자 집합 (Roaring 방식의 압축 비트맵)
+ *
+ * 사용자 ID 의 상위 비트(userId >>> 16)마다 컨테이너 키 하나를 두고, 하위 16비트만 저장한다.
+ * - 배열 컨테이너: 원소가 적으면 (하위 16비트 - 32768) 의 Redis SET. 16비트 정수만 담긴 SET 은
+ *   intset 으로 인코딩되어 원소당 2바이트를 쓴다.
+ * - 비트맵 컨테이너: 원소가 array-max 를 넘으면 SETBIT 문자열(최대 8KB)로 바꾸고, 절반 아래로
+ *   줄어들면 다시 배열로 바꾼다.
+ *
+ * 토글과 컨테이너 변환은 Lua 스크립트 하나로 원자적으로 처리되며, 저장은 Redis 영속화(RDB/AOF)를 따른다.
+ * array-max 는 Redis 의 set-max-intset-entries (기본 512) 이하로 두어야 intset 인코딩이 유지된다.
+ *
+ * 키는 ANSWER_LIKERS:{답변 ID}:... 형태로 답변 ID 를 해시 태그로 두어, Redis Cluster 에서도 한 답변의
+ * 컨테이너와 컨테이너 목록이 같은 슬롯에 놓인다 (토글 스크립트와 삭제가 한 노드에서 실행됨).
+ */
+@Component
+public class AnswerLikerSet {
+
+  private static final String KEY_PREFIX = "ANSWER_LIKERS:";
+  private static final int CONTAINER_BITS = 16;
+  private static final int LOW_MASK = (1 << CONTAINER_BITS) - 1;
+
+  // KEYS[1]=컨테이너, KEYS[2]=컨테이너 목록 / ARGV[1]=하위 비트, ARGV[2]=1 좋아요 0 취소,
+  // ARGV[3]=array-max, ARGV[4]=상위 비트 → 상태가 바뀌었으면 1
+  private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+      "local key = KEYS[1]\n"
+          + "local low = tonumber(ARGV[1])\n"
+          + "local like = ARGV[2] == '1'\n"
+          + "local arrayMax = tonumber(ARGV[3])\n"
+          + "local kind = redis.call('TYPE', key)['ok']\n"
+          + "if kind == 'string' then\n"
+          + "  local previous = redis.call('SETBIT', key, low, like and 1 or 0)\n"
+          + "  if (previous == 1) == like then return 0 end\n"
+          + "  if not like and redis.call('BITCOUNT', key) <= arrayMax / 2 then\n"
+          // 원소가 줄어든 비트맵을 다시 배열 컨테이너로 변환
+          + "    local bits = redis.call('GET', key)\n"
+          + "    redis.call('DEL', key)\n"
+          + "    for i = 1, #bits do\n"
+          + "      local byte = string.byte(bits, i)\n"
+          + "      if byte > 0 then\n"
+          + "        for b = 0, 7 do\n"
+          + "          if bit.band(byte, bit.rshift(128, b)) ~= 0 then\n"
+          + "            redis.call('SADD', key, (i - 1) * 8 + b - 32768)\n"
+          + "          end\n"
+          + "        end\n"
+          + "      end\n"
+          + "    end\n"
+          + "    if redis.call('EXISTS', key) == 0 then redis.call('SREM', KEYS[2], ARGV[4]) end\n"
+          + "  end\n"
+          + "  return 1\n"
+          + "end\n"
+          + "local member = low - 32768\n"
+          + "if not like then\n"
+          + "  local removed = redis.call('SREM', key, member)\n"
+          + "  if removed == 1 and redis.call('EXISTS', key) == 0 then\n"
+          + "    redis.call('SREM', KEYS[2], ARGV[4])\n"
+          + "  end\n"
+          + "  return removed\n"
+          + "end\n"
+          + "if redis.call('SADD', key, member) == 0 then return 0 end\n"
+          + "redis.call('SADD', KEYS[2], ARGV[4])\n"
+          + "if redis.call('SCARD', key) > arrayMax then\n"
+          // 배열 컨테이너가 커지면 비트맵 컨테이너로 변환
+          + "  local members = redis.call('SMEMBERS', key)\n"
+          + "  redis.call('DEL', key)\n"
+          + "  for _, m in ipairs(members) do\n"
+          + "    redis.call('SETBIT', key, tonumber(m) + 32768, 1)\n"
+          + "  end\n"
+          + "end\n"
+          + "return 1\n",
+      Long.class);
+
+  // KEYS=같은 사용자의 답변별 컨테이너 / ARGV[1]=하위 비트 → 답변별 0/1
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CONTAINS_SCRIPT = new DefaultRedisScript<>(
+      "local low = tonumber(ARGV[1])\n"
+          + "local result = {}\n"
+          + "for i, key in ipairs(KEYS) do\n"
+          + "  local kind = redis.call('TYPE', key)['ok']\n"
+          + "  if kind == 'string' then\n"
+          + "    result[i] = redis.call('GETBIT', key, low)\n"
+          + "  elseif kind == 'set' then\n"
+          + "    result[i] = redis.call('SISMEMBER', key, low - 32768)\n"
+          + "  else\n"
+          + "    result[i] = 0\n"
+          + "  end\n"
+          + "end\n"
+          + "return result\n",
+      List.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final int arrayMax;
+  // 클러스터면 답변마다 슬롯이 달라서 조회 스크립트를 슬롯별로 나눠 실행
+  private final boolean cluster;
+
+  public AnswerLikerSet(StringRedisTemplate stringRedisTemplate,
+      @Value("${answer.likes.array-container-max:512}") int arrayMax,
+      @Value("${spring.data.redis.cluster.nodes:}") String clusterNodes) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.arrayMax = arrayMax;
+    this.cluster = !clusterNodes.isBlank();
+  }
+
+  /**
+   * 좋아요를 기록합니다.
+   *
+   * @return 새로 추가되었으면 true, 이미 좋아요 상태였으면 false
+   */
+  public boolean add(Long answerId, Long userId) {
+    return toggle(answerId, userId, true);
+  }
+
+  /**
+   * 좋아요를 취소합니다.
+   *
+   * @return 제거되었으면 true, 좋아요 상태가 아니었으면 false
+   */
+  public boolean remove(Long answerId, Long userId) {
+    return toggle(answerId, userId, false);
+  }
+
+  /**
+   * 사용자가 각 답변에 좋아요를 눌렀는지 한 번의 왕복으로 조회합니다 (클러스터에서는 슬롯마다 한 번).
+   *
+   * @return 답변 ID → 좋아요 여부 (요청 순서 유지)
+   */
+  public Map<Long, Boolean> containsAll(Long userId, List<Long> answerIds) {
+    Map<Long, Boolean> liked = new LinkedHashMap<>();
+    if (answerIds.isEmpty()) {
+      return liked;
+    }
+    long high = userId >>> CONTAINER_BITS;
+    String low = String.valueOf(userId & LOW_MASK);
+    if (!cluster) {
+      containsInSlot(answerIds, high, low, liked);
+      return liked;
+    }
+    Map<Integer, List<Long>> bySlot = new HashMap<>();
+    for (Long answerId : answerIds) {
+      bySlot.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(containerKey(answerId, high)),
+          slot -> new ArrayList<>()).add(answerId);
+    }
+    for (List<Long> slotAnswerIds : bySlot.values()) {
+      containsInSlot(slotAnswerIds, high, low, liked);
+    }
+    // 요청 순서대로 다시 정렬
+    Map<Long, Boolean> ordered = new LinkedHashMap<>();
+    for (Long answerId : answerIds) {
+      ordered.put(answerId, liked.get(answerId));
+    }
+    return ordered;
+  }
+
+  // 답변 삭제 시 모든 컨테이너 제거, 컨테이너 목록을 먼저 읽고 모든 키를 명시한 DEL 한 번으로 지움
+  public void deleteAll(Long answerId) {
+    String chunksKey = chunksKey(answerId);
+    Set<String> highs = stringRedisTemplate.opsForSet().members(chunksKey);
+    List<String> keys = new ArrayList<>((highs != null ? highs.size() : 0) + 1);
+    if (highs != null) {
+      for (String high : highs) {
+        keys.add(answerPrefix(answerId) + high);
+      }
+    }
+    keys.add(chunksKey);
+    stringRedisTemplate.delete(keys);
+  }
+
+  private void containsInSlot(List<Long> answerIds, long high, String low,
+      Map<Long, Boolean> liked) {
+    List<String> keys = new ArrayList<>(answerIds.size());
+    for (Long answerId : answerIds) {
+      keys.add(containerKey(answerId, high));
+    }
+    List<?> result = stringRedisTemplate.execute(CONTAINS_SCRIPT, keys, low);
+    for (int i = 0; i < answerIds.size(); i++) {
+      Object value = result != null && i < result.size() ? result.get(i) : null;
+      liked.put(answerIds.get(i), value != null && ((Number) value).longValue() == 1L);
+    }
+  }
+
+  private boolean toggle(Long answerId, Long userId, boolean like) {
+    long high = userId >>> CONTAINER_BITS;
+    Long changed = stringRedisTemplate.execute(TOGGLE_SCRIPT,
+        List.of(containerKey(answerId, high), chunksKey(answerId)),
+        String.valueOf(userId & LOW_MASK), like ? "1" : "0", String.valueOf(arrayMax),
+        String.valueOf(high));
+    return changed != null && changed == 1L;
+  }
+
+  private String containerKey(Long answerId, long high) {
+    return answerPrefix(answerId) + high;
+  }
+
+  private String chunksKey(Long answerId) {
+    return answerPrefix(answerId) + "chunks";
+  }
+
+  // 답변 ID 를 해시 태그로 두어 한 답변의 모든 키가 같은 슬롯에 놓이게 함
+  private String answerPrefix(Long answerId) {
+    return KEY_PREFIX + "{" + answerId + "}:";
+  }
+}
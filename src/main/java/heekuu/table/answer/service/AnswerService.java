@@ -2,13 +2,16 @@ package heekuu.table.answer.service;
 
 
 import heekuu.table.answer.dto.AnswerDTO;
+import java.util.List;
+import java.util.Map;
 
 public interface AnswerService {
     AnswerDTO createAnswer(AnswerDTO answerDTO);
     AnswerDTO getAnswerById(Long id);
     AnswerDTO updateAnswer(Long id, AnswerDTO answerDTO);
     void deleteAnswer(Long id);
-    void likeAnswer(Long answerId);
-    void unlikeAnswer(Long answerId);
+    boolean likeAnswer(Long answerId, Long userId);
+    boolean unlikeAnswer(Long answerId, Long userId);
+    Map<Long, Boolean> getLikedAnswers(Long userId, List<Long> answerIds);
     void selectAnswer(Long questionId, Long answerId);
 }
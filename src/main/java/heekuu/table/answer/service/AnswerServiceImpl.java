@@ -2,18 +2,23 @@ package heekuu.table.answer.service;
 
 import heekuu.table.answer.dto.AnswerDTO;
 import heekuu.table.answer.entity.Answer;
+import heekuu.table.answer.event.AnswerChangedEvent;
+import heekuu.table.answer.event.AnswerLikedEvent;
 import heekuu.table.answer.repository.AnswerRepository;
 import heekuu.table.comment.dto.CommentDTO;
 import heekuu.table.forbidden.service.ForbiddenService;
 import heekuu.table.questions.entity.Question;
+import heekuu.table.questions.event.QuestionChangedEvent;
 import heekuu.table.questions.repository.QuestionRepository;
 import heekuu.table.rewards.service.QuestionRewardService;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,18 +30,27 @@ public class AnswerServiceImpl implements AnswerService {
   private final UserRepository userRepository;
   private final ForbiddenService forbiddenService;
   private final QuestionRewardService questionRewardService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final AnswerLikeCounter answerLikeCounter;
+  private final AnswerLikerSet answerLikerSet;
 
   @Autowired
   public AnswerServiceImpl(AnswerRepository answerRepository,
       QuestionRepository questionRepository,
       UserRepository userRepository,
       ForbiddenService forbiddenService,
-      QuestionRewardService questionRewardService) {
+      QuestionRewardService questionRewardService,
+      ApplicationEventPublisher eventPublisher,
+      AnswerLikeCounter answerLikeCounter,
+      AnswerLikerSet answerLikerSet) {
     this.answerRepository = answerRepository;
     this.questionRepository = questionRepository;
     this.userRepository = userRepository;
     this.forbiddenService = forbiddenService;
     this.questionRewardService = questionRewardService;
+    this.eventPublisher = eventPublisher;
+    this.answerLikeCounter = answerLikeCounter;
+    this.answerLikerSet = answerLikerSet;
   }
 
   @Override
@@ -68,6 +82,8 @@ public class AnswerServiceImpl implements AnswerService {
 
     // Answer 저장
     Answer savedAnswer = answerRepository.save(answer);
+    eventPublisher.publishEvent(
+        new AnswerChangedEvent(savedAnswer.getAnswerId(), question.getQuestionId(), true, false));
 
     // 저장된 엔티티를 DTO로 변환하여 반환
     return convertToDTO(savedAnswer);
@@ -90,6 +106,8 @@ public class AnswerServiceImpl implements AnswerService {
     // answer.updateImage(answerDTO.getImage()); // 이미지 업데이트용 메서드 추가 시
 
     Answer updatedAnswer = answerRepository.save(answer);
+    eventPublisher.publishEvent(new AnswerChangedEvent(updatedAnswer.getAnswerId(),
+        updatedAnswer.getQuestion().getQuestionId(), false, false));
     return convertToDTO(updatedAnswer);
   }
   //기존 답변을 수정
@@ -97,9 +115,9 @@ public class AnswerServiceImpl implements AnswerService {
   @Override
   @Transactional(readOnly = true)
   public AnswerDTO getAnswerById(Long id) {
-    Answer answer = answerRepository.findById(id)
+    Answer answer = answerRepository.findWithCommentsByAnswerId(id)
         .orElseThrow(() -> new RuntimeException("Answer not found with id: " + id));
-    return convertToDTO(answer); // convertToDTO 메서드에서 댓글 변환 포함
+    return convertToDTO(answer); // 댓글과 작성자는 이미 함께 조회됨
   }
 
   private AnswerDTO convertToDTO(Answer answer) {
@@ -109,7 +127,8 @@ public class AnswerServiceImpl implements AnswerService {
     answerDTO.setContent(answer.getContent());
     answerDTO.setCreatedAt(answer.getCreatedAt());
     answerDTO.setUpdatedAt(answer.getUpdatedAt());
-    answerDTO.setLikes(answer.getLikes());
+    // 아직 DB 에 반영되지 않은 좋아요 증감 포함
+    answerDTO.setLikes(answerLikeCounter.currentLikes(answer.getAnswerId(), answer.getLikes()));
     answerDTO.setIsSelected(answer.isSelected());
 
     // Answer의 댓글 리스트를 CommentDTO 리스트로 변환하여 추가
@@ -130,27 +149,39 @@ public class AnswerServiceImpl implements AnswerService {
   }
 
 
-  @Transactional
+  // 사용자별로 한 번만 반영되고, 상태가 바뀐 경우에만 카운터에 증감 기록 (answers.likes 는 주기적으로 일괄 반영)
   @Override
-  public void likeAnswer(Long answerId) {
-    // 답변 조회
-    Answer answer = answerRepository.findById(answerId)
-        .orElseThrow(() -> new EntityNotFoundException("Answer not found with id: " + answerId));
+  public boolean likeAnswer(Long answerId, Long userId) {
+    Long questionId = requireQuestionId(answerId);
+    boolean added = answerLikerSet.add(answerId, userId);
+    if (added) {
+      answerLikeCounter.add(answerId, 1);
+      eventPublisher.publishEvent(new AnswerLikedEvent(answerId, questionId, userId, 1));
+    }
+    return added;
+  }
 
-    // '좋아요' 증가
-    answer.incrementLikes();
-    answerRepository.save(answer);
+  @Override
+  public boolean unlikeAnswer(Long answerId, Long userId) {
+    Long questionId = requireQuestionId(answerId);
+    boolean removed = answerLikerSet.remove(answerId, userId);
+    if (removed) {
+      answerLikeCounter.add(answerId, -1);
+      eventPublisher.publishEvent(new AnswerLikedEvent(answerId, questionId, userId, -1));
+    }
+    return removed;
   }
 
-  @Transactional
+  // 목록 화면용, 사용자가 각 답변에 좋아요를 눌렀는지 한 번에 조회
   @Override
-  public void unlikeAnswer(Long answerId) {
-    Answer answer = answerRepository.findById(answerId)
-        .orElseThrow(() -> new EntityNotFoundException("Answer not found with id: " + answerId));
+  public Map<Long, Boolean> getLikedAnswers(Long userId, List<Long> answerIds) {
+    return answerLikerSet.containsAll(userId, answerIds);
+  }
 
-    // '좋아요' 감소
-    answer.decrementLikes();
-    answerRepository.save(answer);
+  // 답변 행을 읽지 않고 존재 확인과 질문 ID 조회만 수행
+  private Long requireQuestionId(Long answerId) {
+    return answerRepository.findQuestionIdByAnswerId(answerId)
+        .orElseThrow(() -> new EntityNotFoundException("Answer not found with id: " + answerId));
   }
 
   @Transactional
@@ -177,6 +208,8 @@ public class AnswerServiceImpl implements AnswerService {
 
     answerRepository.save(answer);
     questionRepository.save(question);
+    // 해결 상태가 바뀌었으므로 검색 필터 반영
+    eventPublisher.publishEvent(QuestionChangedEvent.updated(question, question.getSubjectName()));
   }
 
   @Override
@@ -185,6 +218,8 @@ public class AnswerServiceImpl implements AnswerService {
     Answer answer = answerRepository.findById(id)
         .orElseThrow(() -> new RuntimeException("Answer not found with id: " + id));
     answerRepository.delete(answer);
+    eventPublisher.publishEvent(
+        new AnswerChangedEvent(id, answer.getQuestion().getQuestionId(), false, true));
   }
 
 }
@@ -1,7 +1,9 @@
 package heekuu.table.comment.controller;
 
 import heekuu.table.comment.dto.CommentDTO;
+import heekuu.table.comment.dto.CommentThreadDTO;
 import heekuu.table.comment.service.CommentService;
+import heekuu.table.questions.dto.CursorPageResponse;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -41,6 +43,15 @@ public class CommentController {
         return new ResponseEntity<>(comments, HttpStatus.OK);
     }
 
+    // 특정 답변의 댓글 트리 (대댓글 포함) 를 최상위 댓글 단위로 페이지 조회
+    @GetMapping("/{answerId}/comments/thread")
+    public ResponseEntity<CursorPageResponse<CommentThreadDTO>> getCommentThread(
+            @PathVariable Long answerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getCommentThread(answerId, cursor, size));
+    }
+
     // 대댓글 작성 엔드포인트
     @PostMapping("/{parentCommentId}/replies")
     public ResponseEntity<CommentDTO> createReply(
@@ -0,0 +1,21 @@
+package heekuu.table.comment.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+// 대댓글을 중첩해서 담는 댓글 트리 노드
+@Getter
+@Setter
+public class CommentThreadDTO {
+    private Long commentId;
+    private Long userId;
+    private String content;
+    private Long parentCommentId;
+    private int depth;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<CommentThreadDTO> replies = new ArrayList<>();
+}
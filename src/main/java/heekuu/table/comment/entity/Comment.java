@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -19,9 +20,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 답변 하나의 댓글 트리를 path 순서로 한 번에 범위 조회
+        @Index(name = "idx_comments_answer_id_path", columnList = "answer_id, path")
+})
 public class Comment extends BaseEntity {
 
+    // path 한 단계의 길이, 댓글 ID 를 36진수로 0 을 채워 고정 길이로 만듦
+    public static final int PATH_SEGMENT_LENGTH = 8;
+    public static final int PATH_MAX_LENGTH = 760;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_id")
@@ -46,6 +54,10 @@ public class Comment extends BaseEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    // 조상부터 자신까지의 ID 경로 (materialized path), 정렬하면 부모가 항상 자식보다 앞에 옴
+    @Column(name = "path", length = PATH_MAX_LENGTH)
+    private String path;
+
     // 기본 생성자 (JPA용)
     protected Comment() {
     }
@@ -81,6 +93,38 @@ public class Comment extends BaseEntity {
         return content;
     }
 
+    public String getPath() {
+        return path;
+    }
+
+    public int getDepth() {
+        return path != null ? path.length() / PATH_SEGMENT_LENGTH - 1 : 0;
+    }
+
+    /**
+     * ID 가 발급된 뒤 부모 경로에 자신의 ID 를 이어 path 를 설정합니다.
+     * 부모의 path 가 아직 없으면 (이전 데이터) 비워 두고 백필 작업이 채우게 한다.
+     */
+    public void assignPath() {
+        if (parentComment == null) {
+            this.path = pathSegment(commentId);
+            return;
+        }
+        String parentPath = parentComment.getPath();
+        if (parentPath == null) {
+            return;
+        }
+        if (parentPath.length() + PATH_SEGMENT_LENGTH > PATH_MAX_LENGTH) {
+            throw new RuntimeException("댓글 깊이 제한을 초과했습니다.");
+        }
+        this.path = parentPath + pathSegment(commentId);
+    }
+
+    public static String pathSegment(Long commentId) {
+        String encoded = Long.toString(commentId, 36);
+        return "0".repeat(Math.max(PATH_SEGMENT_LENGTH - encoded.length(), 0)) + encoded;
+    }
+
     // 비즈니스 로직을 통한 content 업데이트
     public void updateContent(String content) {
         this.content = content;
@@ -3,9 +3,30 @@ package heekuu.table.comment.repository;
 import heekuu.table.answer.entity.Answer;
 import heekuu.table.comment.entity.Comment;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByAnswerAndParentCommentIsNull(Answer answer);  // 부모가 없는 댓글(대댓글 아님) 조회
     List<Comment> findByParentComment(Comment parentComment);  // 특정 댓글의 대댓글 조회
+
+    // 댓글 수와 관계없이 쿼리 1회, 작성자 ID 는 외래키 프록시에서 읽으므로 users 를 조인하지 않음
+    // (User 의 mappedBy 일대일은 지연 로딩이 안 되어 조인 시 작성자마다 추가 조회 발생)
+    List<Comment> findByAnswer_AnswerIdAndParentCommentIsNull(Long answerId);
+
+    List<Comment> findByParentComment_CommentId(Long parentCommentId);
+
+    // 최상위 댓글의 path 를 ID 순서로 페이지 조회 (idx_comments_answer_id_path)
+    @Query("SELECT c.path FROM Comment c WHERE c.answer.answerId = :answerId "
+            + "AND c.parentComment IS NULL AND c.path > :afterPath ORDER BY c.path")
+    List<String> findRootPaths(@Param("answerId") Long answerId,
+            @Param("afterPath") String afterPath, Pageable pageable);
+
+    // [fromPath, toPath) 범위의 댓글 전체를 path 순서로 조회, 깊이와 관계없이 범위 조회 1회
+    @Query("SELECT c FROM Comment c WHERE c.answer.answerId = :answerId "
+            + "AND c.path >= :fromPath AND c.path < :toPath ORDER BY c.path")
+    List<Comment> findThreadRange(@Param("answerId") Long answerId,
+            @Param("fromPath") String fromPath, @Param("toPath") String toPath);
 }
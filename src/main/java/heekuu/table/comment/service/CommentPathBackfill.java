@@ -0,0 +1,87 @@
+package heekuu.table.comment.service;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * path 가 없는 기존 댓글에 materialized path 를 채우는 일회성 백필 작업
+ *
+ * comment.path-backfill.enabled=true 일 때 기동 후 별도 스레드에서 실행된다. 최상위 댓글부터 채우고,
+ * 이후 부모의 path 가 채워진 대댓글을 반복해서 채우므로 한 번 반복할 때마다 한 단계씩 내려간다.
+ * 갱신은 path 가 비어 있을 때만 하므로 중간에 멈춰도 다시 실행하면 된다.
+ * 경로 형식은 Comment.pathSegment() 와 같다. (36진수 ID, 8자리 0 채움)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comment.path-backfill.enabled", havingValue = "true")
+public class CommentPathBackfill implements ApplicationRunner {
+
+  private static final String SEGMENT_SQL = "LOWER(LPAD(CONV(%s, 10, 36), 8, '0'))";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+  private final long pauseMillis;
+
+  public CommentPathBackfill(JdbcTemplate jdbcTemplate,
+      @Value("${comment.path-backfill.batch-size:1000}") int batchSize,
+      @Value("${comment.path-backfill.pause-ms:100}") long pauseMillis) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+    this.pauseMillis = pauseMillis;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Thread worker = new Thread(this::backfill, "comment-path-backfill");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  void backfill() {
+    long updated = 0;
+    int rows;
+    do {
+      rows = jdbcTemplate.update(
+          "UPDATE comments SET path = " + SEGMENT_SQL.formatted("comment_id")
+              + " WHERE parent_comment_id IS NULL AND path IS NULL LIMIT ?", batchSize);
+      updated += rows;
+    } while (rows > 0 && pause());
+    log.info("최상위 댓글 path 백필: {}건", updated);
+
+    // 부모 path 가 채워진 대댓글만 골라 ID 단위로 갱신 (다중 테이블 UPDATE 는 LIMIT 불가)
+    List<Long> ids;
+    do {
+      ids = jdbcTemplate.queryForList(
+          "SELECT c.comment_id FROM comments c JOIN comments p ON c.parent_comment_id = p.comment_id "
+              + "WHERE c.path IS NULL AND p.path IS NOT NULL ORDER BY c.comment_id LIMIT ?",
+          Long.class, batchSize);
+      if (ids.isEmpty()) {
+        break;
+      }
+      jdbcTemplate.batchUpdate(
+          "UPDATE comments c JOIN comments p ON c.parent_comment_id = p.comment_id "
+              + "SET c.path = CONCAT(p.path, " + SEGMENT_SQL.formatted("c.comment_id") + ") "
+              + "WHERE c.comment_id = ? AND c.path IS NULL",
+          ids.stream().map(id -> new Object[]{id}).toList());
+      updated += ids.size();
+      log.info("대댓글 path 백필 진행: 누적 {}건", updated);
+    } while (pause());
+    log.info("댓글 path 백필 완료: {}건", updated);
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(pauseMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
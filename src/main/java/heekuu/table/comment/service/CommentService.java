@@ -3,17 +3,27 @@ package heekuu.table.comment.service;
 import heekuu.table.answer.entity.Answer;
 import heekuu.table.answer.repository.AnswerRepository;
 import heekuu.table.comment.dto.CommentDTO;
+import heekuu.table.comment.dto.CommentThreadDTO;
 import heekuu.table.comment.entity.Comment;
 import heekuu.table.comment.repository.CommentRepository;
+import heekuu.table.common.exception.CustomException;
+import heekuu.table.common.exception.ErrorCode;
 import heekuu.table.forbidden.service.ForbiddenService;
+import heekuu.table.questions.dto.CursorPageResponse;
 import heekuu.table.user.entity.Count;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.CountRepository;
 import heekuu.table.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Service
 public class CommentService {
@@ -24,9 +34,13 @@ public class CommentService {
     private final CountRepository countRepository;
     private final ForbiddenService forbiddenService;
 
+    private static final int MAX_THREAD_PAGE_SIZE = 50;
+    private static final Pattern ROOT_PATH_CURSOR =
+            Pattern.compile("[0-9a-z]{" + Comment.PATH_SEGMENT_LENGTH + "}");
 
 
     // 댓글 생성
+    @Transactional
     public CommentDTO createComment(Long answerId, Long userId, String content, Long parentCommentId) {
         // 검열 로직 추가
         forbiddenService.validateContent(content);
@@ -48,6 +62,8 @@ public class CommentService {
         // 새로운 댓글 생성
         Comment comment = new Comment(answer, user, content, parentComment);
         Comment savedComment = commentRepository.save(comment);
+        // ID 가 발급된 뒤 path 설정, 커밋 시 함께 반영
+        savedComment.assignPath();
 
         // 댓글 수 업데이트
         updateCommentCount(userId, 1);
@@ -59,24 +75,86 @@ public class CommentService {
 
     // 특정 답변에 달린 댓글 조회
     public List<CommentDTO> getCommentsForAnswer(Long answerId) {
-        Answer answer = answerRepository.findById(answerId)
-                .orElseThrow(() -> new RuntimeException("답변을 찾을 수 없습니다."));
+        List<Comment> comments = commentRepository.findByAnswer_AnswerIdAndParentCommentIsNull(answerId);
+        // 댓글이 없을 때만 답변 존재 여부 확인
+        if (comments.isEmpty() && !answerRepository.existsById(answerId)) {
+            throw new RuntimeException("답변을 찾을 수 없습니다.");
+        }
 
-        return commentRepository.findByAnswerAndParentCommentIsNull(answer).stream()
+        return comments.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     // 대댓글 조회
     public List<CommentDTO> getRepliesForComment(Long commentId) {
-        Comment parentComment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
+        List<Comment> replies = commentRepository.findByParentComment_CommentId(commentId);
+        if (replies.isEmpty() && !commentRepository.existsById(commentId)) {
+            throw new RuntimeException("댓글을 찾을 수 없습니다.");
+        }
 
-        return commentRepository.findByParentComment(parentComment).stream()
+        return replies.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 답변의 댓글 트리를 최상위 댓글 단위로 페이지 조회합니다.
+     * 최상위 댓글 목록 조회 후, 그 범위의 모든 대댓글을 path 범위 조회 한 번으로 가져와 메모리에서 조립한다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param size   페이지당 최상위 댓글 수
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentThreadDTO> getCommentThread(Long answerId, String cursor, int size) {
+        if (cursor != null && !ROOT_PATH_CURSOR.matcher(cursor).matches()) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+
+        // size + 1 건을 조회해서 다음 페이지 존재 여부 판단
+        List<String> rootPaths = commentRepository.findRootPaths(answerId,
+                cursor != null ? cursor : "", PageRequest.of(0, pageSize + 1));
+        if (rootPaths.isEmpty()) {
+            if (!answerRepository.existsById(answerId)) {
+                throw new RuntimeException("답변을 찾을 수 없습니다.");
+            }
+            return new CursorPageResponse<>(List.of(), null, false, null);
+        }
+        boolean hasNext = rootPaths.size() > pageSize;
+        if (hasNext) {
+            rootPaths = rootPaths.subList(0, pageSize);
+        }
+
+        String firstPath = rootPaths.get(0);
+        String lastPath = rootPaths.get(rootPaths.size() - 1);
+        // path 문자는 [0-9a-z] 이므로 lastPath + "~" 는 마지막 최상위 댓글의 모든 자손보다 큼
+        List<Comment> comments = commentRepository.findThreadRange(answerId, firstPath, lastPath + "~");
+
+        return new CursorPageResponse<>(assembleThread(comments), hasNext ? lastPath : null,
+                hasNext, null);
+    }
+
+    // path 순서로 정렬된 댓글은 부모가 항상 먼저 나오므로 한 번 순회로 트리 조립
+    private List<CommentThreadDTO> assembleThread(List<Comment> comments) {
+        List<CommentThreadDTO> roots = new ArrayList<>();
+        Map<String, CommentThreadDTO> byPath = new HashMap<>(comments.size() * 2);
+        for (Comment comment : comments) {
+            CommentThreadDTO node = convertToThreadDTO(comment);
+            String path = comment.getPath();
+            byPath.put(path, node);
+            if (path.length() == Comment.PATH_SEGMENT_LENGTH) {
+                roots.add(node);
+                continue;
+            }
+            CommentThreadDTO parent = byPath.get(path.substring(0, path.length() - Comment.PATH_SEGMENT_LENGTH));
+            if (parent != null) {
+                parent.getReplies().add(node);
+            }
+        }
+        return roots;
+    }
+
     // 댓글 수정
     public CommentDTO updateComment(Long commentId, Long userId, String content) {
 
@@ -126,6 +204,7 @@ public class CommentService {
     }
 
     // 대댓글 생성
+    @Transactional
     public CommentDTO createReply(CommentDTO commentDTO) {
         Long parentCommentId = commentDTO.getParentCommentId();
         Long userId = commentDTO.getUserId();
@@ -145,6 +224,7 @@ public class CommentService {
         // 대댓글 생성
         Comment replyComment = new Comment(parentComment.getAnswer(), user, content, parentComment);
         commentRepository.save(replyComment);
+        replyComment.assignPath();
 
         // DTO로 변환 및 반환
         return convertToDTO(replyComment);
@@ -152,6 +232,19 @@ public class CommentService {
 
 
 
+    private CommentThreadDTO convertToThreadDTO(Comment comment) {
+        CommentThreadDTO dto = new CommentThreadDTO();
+        dto.setCommentId(comment.getCommentId());
+        dto.setUserId(comment.getUser().getUserId());
+        dto.setContent(comment.getContent());
+        // 지연 로딩 프록시의 ID 만 읽으므로 부모 조회 쿼리는 발생하지 않음
+        dto.setParentCommentId(comment.getParentComment() != null ? comment.getParentComment().getCommentId() : null);
+        dto.setDepth(comment.getDepth());
+        dto.setCreatedAt(comment.getCreatedAt());
+        dto.setUpdatedAt(comment.getUpdatedAt());
+        return dto;
+    }
+
     // 엔티티 -> DTO 변환 메서드
     public CommentDTO convertToDTO(Comment comment) {
         CommentDTO dto = new CommentDTO();
@@ -0,0 +1,19 @@
+package heekuu.table.common.event;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 캐시 무효화 등 가벼운 알림을 주고받는 채널
+ *
+ * 운영에서는 Redis pub/sub 구현을, 단일 노드나 테스트 실행에서는 로컬 구현을 사용한다.
+ * (cluster.event-bus=redis|local)
+ */
+public interface ClusterEventBus {
+
+  /**
+   * 모든 노드(발행한 노드 포함)의 구독자에게 메시지를 전달합니다.
+   */
+  void publish(String channel, String message);
+
+  void subscribe(String channel, Consumer<String> listener);
+}
@@ -0,0 +1,37 @@
+package heekuu.table.common.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드/테스트용 인메모리 이벤트 버스, 발행 스레드에서 바로 전달한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cluster.event-bus", havingValue = "local")
+public class LocalClusterEventBus implements ClusterEventBus {
+
+  private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+  @Override
+  public void publish(String channel, String message) {
+    for (Consumer<String> listener : listeners.getOrDefault(channel, List.of())) {
+      try {
+        listener.accept(message);
+      } catch (RuntimeException e) {
+        log.error("이벤트 처리 실패. 채널: {}, 메시지: {}", channel, message, e);
+      }
+    }
+  }
+
+  @Override
+  public void subscribe(String channel, Consumer<String> listener) {
+    listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+}
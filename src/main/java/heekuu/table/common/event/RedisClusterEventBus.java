@@ -0,0 +1,45 @@
+package heekuu.table.common.event;
+
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisConfig 의 RedisTemplate 으로 발행하고, 리스너 컨테이너로 구독하는 이벤트 버스
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cluster.event-bus", havingValue = "redis", matchIfMissing = true)
+public class RedisClusterEventBus implements ClusterEventBus {
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  @Override
+  public void publish(String channel, String message) {
+    try {
+      redisTemplate.convertAndSend(channel, message);
+    } catch (RuntimeException e) {
+      // 발행 실패 시 다른 노드는 캐시 TTL 이 지나야 반영됨
+      log.warn("이벤트 발행 실패. 채널: {}, 메시지: {}, 원인: {}", channel, message, e.getMessage());
+    }
+  }
+
+  @Override
+  public void subscribe(String channel, Consumer<String> listener) {
+    listenerContainer.addMessageListener((message, pattern) -> {
+      Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+      try {
+        listener.accept(String.valueOf(payload));
+      } catch (RuntimeException e) {
+        log.error("이벤트 처리 실패. 채널: {}, 메시지: {}", channel, payload, e);
+      }
+    }, new ChannelTopic(channel));
+  }
+}
@@ -10,11 +10,17 @@ public enum ErrorCode {
   // 질문 관련
   QUESTION_NOT_FOUND(HttpStatus.NOT_FOUND, "질문을 찾을 수 없습니다."),
   INVALID_SUBJECT(HttpStatus.BAD_REQUEST, "잘못된 과목입니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+
+  // 검색 관련
+  SEARCH_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
 
   //일반
   INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "잘못된 입력값입니다."),
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다."),
+  SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
   //어드민
   OWNER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 Owner를 찾을 수 없습니다."),
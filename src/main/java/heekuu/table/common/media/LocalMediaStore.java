@@ -0,0 +1,86 @@
+package heekuu.table.common.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 파일 시스템 저장소, 파일은 media.local.url-prefix 경로로 정적 리소스로 제공된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "media.store", havingValue = "local", matchIfMissing = true)
+public class LocalMediaStore implements MediaStore {
+
+  private final Path baseDirectory;
+  private final String urlPrefix;
+
+  public LocalMediaStore(@Value("${media.local.base-dir:./media}") String baseDirectory,
+      @Value("${media.local.url-prefix:/media/}") String urlPrefix) {
+    this.baseDirectory = Path.of(baseDirectory).toAbsolutePath().normalize();
+    this.urlPrefix = urlPrefix.endsWith("/") ? urlPrefix : urlPrefix + "/";
+    try {
+      Files.createDirectories(this.baseDirectory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("미디어 디렉터리를 만들 수 없습니다: " + baseDirectory, e);
+    }
+  }
+
+  @Override
+  public String save(String directory, InputStream content, long size, String contentType)
+      throws IOException {
+    String key = MediaKeys.newKey(directory, contentType);
+    Path target = resolve(key);
+    Files.createDirectories(target.getParent());
+
+    // 임시 파일에 모두 쓴 뒤 옮겨서, 쓰는 도중의 파일이 제공되지 않도록 함
+    Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+    try {
+      Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return key;
+  }
+
+  @Override
+  public String urlOf(String reference) {
+    return reference == null ? null : urlPrefix + reference;
+  }
+
+  @Override
+  public void delete(String reference) {
+    if (!MediaKeys.isSafe(reference)) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(resolve(reference));
+    } catch (IOException e) {
+      log.warn("미디어 파일 삭제 실패: {}", reference, e);
+    }
+  }
+
+  public Path getBaseDirectory() {
+    return baseDirectory;
+  }
+
+  public String getUrlPrefix() {
+    return urlPrefix;
+  }
+
+  private Path resolve(String reference) {
+    Path path = baseDirectory.resolve(reference).normalize();
+    if (!path.startsWith(baseDirectory)) {
+      throw new IllegalArgumentException("잘못된 미디어 경로입니다: " + reference);
+    }
+    return path;
+  }
+}
@@ -0,0 +1,34 @@
+package heekuu.table.common.media;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 저장소 구현이 공통으로 사용하는 미디어 키 생성 규칙
+ */
+final class MediaKeys {
+
+  // 알 수 없는 타입은 브라우저가 실행하지 않도록 bin 으로 저장
+  private static final Map<String, String> EXTENSIONS = Map.of(
+      "image/png", "png",
+      "image/jpeg", "jpg",
+      "image/gif", "gif",
+      "image/webp", "webp",
+      "image/bmp", "bmp"
+  );
+
+  private MediaKeys() {
+  }
+
+  static String newKey(String directory, String contentType) {
+    String extension = contentType == null ? "bin"
+        : EXTENSIONS.getOrDefault(contentType.toLowerCase(), "bin");
+    return directory + "/" + UUID.randomUUID() + "." + extension;
+  }
+
+  // 저장소 밖 경로를 가리키는 참조 차단
+  static boolean isSafe(String reference) {
+    return reference != null && !reference.isBlank() && !reference.contains("..")
+        && !reference.startsWith("/") && !reference.contains("\\");
+  }
+}
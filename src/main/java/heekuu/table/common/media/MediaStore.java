@@ -0,0 +1,34 @@
+package heekuu.table.common.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 같은 바이너리를 DB 행 밖에 저장하는 저장소
+ *
+ * 엔티티에는 save() 가 돌려준 참조(키)만 저장하고, 응답에는 urlOf() 로 만든 URL 을 내려준다.
+ * media.store 설정으로 local(기본) 또는 s3 구현을 선택한다.
+ */
+public interface MediaStore {
+
+  /**
+   * 바이너리를 저장합니다. 내용은 메모리에 모두 올리지 않고 스트림으로 복사합니다.
+   *
+   * @param directory   저장할 디렉터리 (예: questions)
+   * @param content     저장할 내용
+   * @param size        내용의 바이트 수
+   * @param contentType MIME 타입
+   * @return 저장된 미디어의 참조
+   */
+  String save(String directory, InputStream content, long size, String contentType)
+      throws IOException;
+
+  /**
+   * 참조를 클라이언트가 직접 내려받을 수 있는 URL 로 변환합니다.
+   *
+   * @return URL, 참조가 null 이면 null
+   */
+  String urlOf(String reference);
+
+  void delete(String reference);
+}
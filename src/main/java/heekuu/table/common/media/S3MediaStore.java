@@ -0,0 +1,44 @@
+package heekuu.table.common.media;
+
+import heekuu.table.common.util.S3Uploader;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 저장소, S3Uploader 의 버킷과 자격 증명을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.store", havingValue = "s3")
+public class S3MediaStore implements MediaStore {
+
+  private final S3Uploader s3Uploader;
+
+  @Override
+  public String save(String directory, InputStream content, long size, String contentType) {
+    String key = MediaKeys.newKey(directory, contentType);
+    s3Uploader.upload(key, content, size, contentType);
+    return key;
+  }
+
+  @Override
+  public String urlOf(String reference) {
+    return reference == null ? null : s3Uploader.getUrl(reference);
+  }
+
+  @Override
+  public void delete(String reference) {
+    if (!MediaKeys.isSafe(reference)) {
+      return;
+    }
+    try {
+      s3Uploader.delete(reference);
+    } catch (RuntimeException e) {
+      log.warn("S3 미디어 삭제 실패: {}", reference);
+    }
+  }
+}
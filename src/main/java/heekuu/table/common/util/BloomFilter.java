@@ -0,0 +1,96 @@
+package heekuu.table.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트를 원소로 받는 스레드 안전 Bloom 필터
+ *
+ * 다이제스트 앞 16바이트를 두 개의 64비트 해시로 나눠 double hashing (h1 + i * h2) 으로
+ * k 개의 비트 위치를 구한다. 거짓 음성은 없고, 거짓 양성 확률은 생성 시 지정한 값에 수렴한다.
+ */
+public final class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  private BloomFilter(long bitSize, int hashCount) {
+    int words = (int) ((bitSize + 63) >>> 6);
+    this.bits = new AtomicLongArray(words);
+    this.bitSize = (long) words << 6;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * 예상 원소 수와 목표 거짓 양성 확률로 비트 수(m)와 해시 수(k)를 정해 생성합니다.
+   *
+   * @param expectedInsertions 예상 원소 수
+   * @param falsePositiveRate  목표 거짓 양성 확률 (0 초과 1 미만)
+   */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate 는 0 과 1 사이여야 합니다.");
+    }
+    long n = Math.max(expectedInsertions, 1);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    return new BloomFilter(Math.max(m, 64), k);
+  }
+
+  public void put(byte[] digest) {
+    long h1 = readLong(digest, 0);
+    long h2 = readLong(digest, 8);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitSize);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  // false 이면 확실히 없음, true 이면 있을 가능성이 있음
+  public boolean mightContain(byte[] digest) {
+    long h1 = readLong(digest, 0);
+    long h2 = readLong(digest, 8);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitSize);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 현재 켜진 비트 비율로 추정한 거짓 양성 확률 (fill ratio ^ k)
+   */
+  public double estimatedFalsePositiveRate() {
+    long setBits = 0;
+    for (int i = 0; i < bits.length(); i++) {
+      setBits += Long.bitCount(bits.get(i));
+    }
+    return Math.pow((double) setBits / bitSize, hashCount);
+  }
+
+  public long getBitSize() {
+    return bitSize;
+  }
+
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  private static long readLong(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[offset + i] & 0xFFL);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,137 @@
+package heekuu.table.common.util;
+
+import heekuu.table.common.exception.CustomException;
+import heekuu.table.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 전용 스레드 풀에서 BCrypt 해시/검증을 수행하는 PasswordEncoder
+ *
+ * 로그인 폭주 시 Tomcat 요청 스레드가 모두 해시 계산에 묶이지 않도록 코어 수만큼의 스레드와
+ * 크기가 제한된 큐를 사용한다. 큐가 가득 차면 기다리지 않고 SERVER_BUSY(503)로 거절한다.
+ */
+@Slf4j
+public class BoundedBCryptPasswordEncoder extends BCryptPasswordEncoder implements DisposableBean {
+
+  private final int strength;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejected;
+
+  public BoundedBCryptPasswordEncoder(int strength, int threads, int queueCapacity,
+      MeterRegistry meterRegistry) {
+    super(strength);
+    this.strength = strength;
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+        .description("대기 중인 해시 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+    this.encodeTimer = Timer.builder("password.hash.latency")
+        .tag("operation", "encode")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.matchesTimer = Timer.builder("password.hash.latency")
+        .tag("operation", "matches")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.rejected = Counter.builder("password.hash.rejected")
+        .description("큐가 가득 차 거절된 해시 작업 수")
+        .register(meterRegistry);
+
+    log.info("BoundedBCryptPasswordEncoder - strength: {}, threads: {}, queue: {}",
+        strength, threads, queueCapacity);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> encodeTimer.recordCallable(() -> super.encode(rawPassword)));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> matchesTimer.recordCallable(
+        () -> super.matches(rawPassword, encodedPassword)));
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  /**
+   * 해시 한 번이 목표 시간 안에 끝나는 가장 높은 strength 를 측정합니다.
+   * strength 가 1 오를 때마다 비용이 두 배가 되므로, 측정값의 두 배가 목표 이하일 때만 올립니다.
+   *
+   * @param targetMillis 목표 해시 시간 (밀리초)
+   * @param minStrength  최소 strength
+   * @param maxStrength  최대 strength
+   * @return 선택된 strength
+   */
+  public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+    int strength = minStrength;
+    BCryptPasswordEncoder probe = new BCryptPasswordEncoder(strength);
+    probe.encode("calibration"); // JIT 워밍업
+    long elapsed = measure(probe);
+    while (strength < maxStrength && elapsed * 2 <= targetMillis) {
+      strength++;
+      elapsed = measure(new BCryptPasswordEncoder(strength));
+    }
+    log.info("BCrypt 보정 완료 - strength: {}, 측정 시간: {}ms, 목표: {}ms",
+        strength, elapsed, targetMillis);
+    return strength;
+  }
+
+  private static long measure(BCryptPasswordEncoder encoder) {
+    long start = System.nanoTime();
+    encoder.encode("calibration");
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  private <T> T submit(Callable<T> task) {
+    try {
+      return executor.submit(task).get();
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("해시 큐가 가득 차 요청을 거절합니다. 대기 작업: {}", executor.getQueue().size());
+      throw new CustomException(ErrorCode.SERVER_BUSY);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
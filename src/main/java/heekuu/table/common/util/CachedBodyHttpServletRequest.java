@@ -0,0 +1,93 @@
+package heekuu.table.common.util;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문을 한 번 읽어 보관하고, 이후 필터/컨트롤러가 다시 읽을 수 있게 하는 래퍼
+ */
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+  private final byte[] body;
+
+  private CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+    super(request);
+    this.body = body;
+  }
+
+  /**
+   * 본문을 최대 maxBytes 까지 읽어 래핑합니다.
+   *
+   * @return 본문이 maxBytes 를 넘으면 null
+   */
+  public static CachedBodyHttpServletRequest wrap(HttpServletRequest request, int maxBytes)
+      throws IOException {
+    InputStream inputStream = request.getInputStream();
+    byte[] body = inputStream.readNBytes(maxBytes + 1);
+    if (body.length > maxBytes) {
+      return null;
+    }
+    return new CachedBodyHttpServletRequest(request, body);
+  }
+
+  public byte[] getBody() {
+    return body;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() {
+    ByteArrayInputStream source = new ByteArrayInputStream(body);
+    return new ServletInputStream() {
+      @Override
+      public boolean isFinished() {
+        return source.available() == 0;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public int read() {
+        return source.read();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) {
+        return source.read(b, off, len);
+      }
+    };
+  }
+
+  @Override
+  public BufferedReader getReader() {
+    String encoding = getCharacterEncoding();
+    Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+  }
+
+  @Override
+  public int getContentLength() {
+    return body.length;
+  }
+
+  @Override
+  public long getContentLengthLong() {
+    return body.length;
+  }
+}
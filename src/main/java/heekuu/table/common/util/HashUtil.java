@@ -0,0 +1,29 @@
+package heekuu.table.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 등 민감한 문자열을 원문 대신 저장/비교하기 위한 해시 유틸
+ */
+public final class HashUtil {
+
+  private HashUtil() {
+  }
+
+  public static byte[] sha256(String value) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      // 모든 JVM 구현체는 SHA-256 을 지원해야 하므로 발생하지 않음
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  // 64자리 소문자 16진수 문자열
+  public static String sha256Hex(String value) {
+    return HexFormat.of().formatHex(sha256(value));
+  }
+}
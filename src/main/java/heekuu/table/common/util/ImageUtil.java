@@ -22,7 +22,7 @@ public class ImageUtil {
     }
   }
 
-  private void validateImage(MultipartFile file) {
+  public void validateImage(MultipartFile file) {
     if (file.getSize() > MAX_FILE_SIZE) {
       throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
     }
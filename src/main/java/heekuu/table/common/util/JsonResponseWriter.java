@@ -0,0 +1,82 @@
+package heekuu.table.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 필터에서 JSON 응답을 쓰기 위한 유틸
+ *
+ * 상태 코드와 메시지가 고정된 응답 본문은 처음 한 번만 직렬화해 바이트 배열로 재사용하고,
+ * 토큰처럼 매번 달라지는 본문은 공유 ObjectWriter 로 출력 스트림에 바로 쓴다.
+ */
+public final class JsonResponseWriter {
+
+  private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+  private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
+  // 키: 상태 코드 + 필드명 + 메시지, 메시지는 ErrorCode 나 상수 문자열뿐이므로 크기가 제한됨
+  private static final Map<String, byte[]> CACHED_BODIES = new ConcurrentHashMap<>();
+
+  private JsonResponseWriter() {
+  }
+
+  /**
+   * {"status": status, "error": message} 본문을 씁니다.
+   */
+  public static void writeError(HttpServletResponse response, int status, String message)
+      throws IOException {
+    write(response, status, cachedBody(status, "error", message));
+  }
+
+  /**
+   * {"status": status, "message": message} 본문을 씁니다.
+   */
+  public static void writeMessage(HttpServletResponse response, int status, String message)
+      throws IOException {
+    write(response, status, cachedBody(status, "message", message));
+  }
+
+  /**
+   * 매 요청마다 값이 달라지는 본문을 공유 ObjectWriter 로 바로 씁니다.
+   */
+  public static void writeValue(HttpServletResponse response, int status, Object body)
+      throws IOException {
+    response.setStatus(status);
+    response.setContentType(CONTENT_TYPE);
+    WRITER.writeValue(response.getOutputStream(), body);
+  }
+
+  /**
+   * 미리 직렬화한 고정 본문을 만듭니다. 상수 필드 초기화에 사용합니다.
+   */
+  public static byte[] serialize(Object body) {
+    try {
+      return WRITER.writeValueAsBytes(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("JSON 직렬화 실패", e);
+    }
+  }
+
+  public static void write(HttpServletResponse response, int status, byte[] body)
+      throws IOException {
+    response.setStatus(status);
+    response.setContentType(CONTENT_TYPE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private static byte[] cachedBody(int status, String field, String message) {
+    return CACHED_BODIES.computeIfAbsent(status + field + message, key -> {
+      Map<String, Object> body = new LinkedHashMap<>();
+      body.put("status", status);
+      body.put(field, message);
+      return serialize(body);
+    });
+  }
+}
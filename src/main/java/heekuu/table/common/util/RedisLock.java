@@ -0,0 +1,65 @@
+package heekuu.table.common.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드에서 동시에 실행되면 안 되는 스케줄 작업용 Redis 잠금 (SET NX PX)
+ *
+ * 잠금은 TTL 이 지나면 자동으로 풀리므로, 작업은 TTL 안에 끝나도록 스스로 실행 시간을 제한해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+  private static final String KEY_PREFIX = "LOCK:";
+
+  // 본인이 잡은 잠금일 때만 해제
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then\n"
+          + "  return redis.call('DEL', KEYS[1])\n"
+          + "end\n"
+          + "return 0\n",
+      Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  /**
+   * 잠금을 시도합니다.
+   *
+   * @param name 잠금 이름
+   * @param ttl  잠금 유지 시간
+   * @return 해제에 사용할 토큰, 다른 노드가 잡고 있거나 Redis 에 접근할 수 없으면 empty
+   */
+  public Optional<String> tryLock(String name, Duration ttl) {
+    String token = UUID.randomUUID().toString();
+    try {
+      Boolean acquired = stringRedisTemplate.opsForValue()
+          .setIfAbsent(KEY_PREFIX + name, token, ttl);
+      return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    } catch (DataAccessException e) {
+      log.warn("잠금 획득 실패 ({}): {}", name, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  public void unlock(String name, String token) {
+    try {
+      stringRedisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(KEY_PREFIX + name),
+          token);
+    } catch (DataAccessException e) {
+      // 해제하지 못해도 TTL 이 지나면 풀림
+      log.warn("잠금 해제 실패 ({}): {}", name, e.getMessage());
+    }
+  }
+}
@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Slf4j
@@ -73,6 +74,31 @@ public class S3Uploader {
     return generateS3Url(fileName);
   }
 
+  /**
+   * 지정한 키로 스트림을 S3에 업로드합니다. 내용을 메모리에 올리지 않고 그대로 전송합니다.
+   *
+   * @param key         저장할 파일 경로
+   * @param content     업로드할 내용
+   * @param size        내용의 바이트 수
+   * @param contentType 파일의 콘텐츠 타입
+   */
+  public void upload(String key, InputStream content, long size, String contentType) {
+    PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key)
+        .contentType(contentType)
+        .build();
+
+    s3Client.putObject(putObjectRequest,
+        software.amazon.awssdk.core.sync.RequestBody.fromInputStream(content, size));
+    log.info("파일 업로드 성공: {}", key);
+  }
+
+  // 키에 해당하는 S3 URL
+  public String getUrl(String key) {
+    return generateS3Url(key);
+  }
+
   //사진삭제
   public void delete(String fileName) {
     try {
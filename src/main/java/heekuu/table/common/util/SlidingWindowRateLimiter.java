@@ -0,0 +1,125 @@
+package heekuu.table.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 슬라이딩 윈도우(요청 시각 로그) 방식의 요청 제한기
+ *
+ * Redis ZSET 에 요청 시각을 기록해 모든 노드가 같은 윈도우를 공유한다. Redis 에 접근할 수 없으면
+ * 노드 로컬 메모리로 대체하며, 이때는 키를 해시해 나눈 stripe 단위로만 잠근다.
+ */
+@Slf4j
+@Component
+public class SlidingWindowRateLimiter {
+
+  private static final String KEY_PREFIX = "RATE_LIMIT:";
+  private static final int STRIPE_COUNT = 64;
+  // stripe 당 보관 키 수가 이 값을 넘으면 윈도우가 지난 키를 정리
+  private static final int STRIPE_CLEANUP_THRESHOLD = 1024;
+
+  /**
+   * KEYS[1] 윈도우 키, ARGV[1] 현재 시각(ms), ARGV[2] 윈도우(ms), ARGV[3] 허용 횟수, ARGV[4] 멤버
+   * 반환: 0 허용, 양수 다시 시도까지 남은 시간(ms)
+   */
+  private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+      "local now = tonumber(ARGV[1])\n"
+          + "local window = tonumber(ARGV[2])\n"
+          + "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)\n"
+          + "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then\n"
+          + "  local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')\n"
+          + "  return math.max(tonumber(oldest[2]) + window - now, 1)\n"
+          + "end\n"
+          + "redis.call('ZADD', KEYS[1], now, ARGV[4])\n"
+          + "redis.call('PEXPIRE', KEYS[1], window)\n"
+          + "return 0\n",
+      Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Counter fallbackCounter;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final AtomicLong sequence = new AtomicLong();
+  private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+  public SlidingWindowRateLimiter(StringRedisTemplate stringRedisTemplate,
+      MeterRegistry meterRegistry) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.fallbackCounter = Counter.builder("rate_limiter.fallback")
+        .description("Redis 장애로 로컬 메모리에서 처리한 요청 수")
+        .register(meterRegistry);
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  /**
+   * 요청 1건을 기록하고 허용 여부를 판단합니다.
+   *
+   * @param key          제한 대상 키 (예: login:ip:127.0.0.1)
+   * @param limit        윈도우 안에서 허용할 횟수
+   * @param windowMillis 윈도우 크기 (밀리초)
+   * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간 (밀리초)
+   */
+  public long tryAcquire(String key, int limit, long windowMillis) {
+    long now = System.currentTimeMillis();
+    try {
+      Long retryAfter = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+          String.valueOf(now),
+          String.valueOf(windowMillis),
+          String.valueOf(limit),
+          nodeId + ":" + sequence.incrementAndGet());
+      return retryAfter == null ? 0 : retryAfter;
+    } catch (DataAccessException e) {
+      fallbackCounter.increment();
+      log.warn("Redis 요청 제한 실패, 로컬 제한으로 대체: {}", e.getMessage());
+      return tryAcquireLocal(key, limit, windowMillis, now);
+    }
+  }
+
+  private long tryAcquireLocal(String key, int limit, long windowMillis, long now) {
+    Stripe stripe = stripes[Math.floorMod(key.hashCode(), STRIPE_COUNT)];
+    synchronized (stripe) {
+      if (stripe.windows.size() > STRIPE_CLEANUP_THRESHOLD) {
+        stripe.removeIdle(now, windowMillis);
+      }
+      ArrayDeque<Long> timestamps = stripe.windows.computeIfAbsent(key, k -> new ArrayDeque<>());
+      while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - windowMillis) {
+        timestamps.pollFirst();
+      }
+      if (timestamps.size() >= limit) {
+        return Math.max(timestamps.peekFirst() + windowMillis - now, 1);
+      }
+      timestamps.addLast(now);
+      return 0;
+    }
+  }
+
+  private static final class Stripe {
+
+    private final Map<String, ArrayDeque<Long>> windows = new HashMap<>();
+
+    // 마지막 요청이 윈도우 밖인 키 제거, 동기화는 호출 측에서 수행
+    private void removeIdle(long now, long windowMillis) {
+      Iterator<ArrayDeque<Long>> iterator = windows.values().iterator();
+      while (iterator.hasNext()) {
+        ArrayDeque<Long> timestamps = iterator.next();
+        if (timestamps.isEmpty() || timestamps.peekLast() <= now - windowMillis) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+}
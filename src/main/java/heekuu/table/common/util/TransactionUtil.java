@@ -0,0 +1,44 @@
+package heekuu.table.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtil {
+
+  private TransactionUtil() {
+  }
+
+  /**
+   * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 실행합니다.
+   * 캐시 무효화처럼 롤백된 변경이 다른 노드에 보이면 안 되는 작업에 사용합니다.
+   */
+  public static void runAfterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+
+  /**
+   * 진행 중인 트랜잭션이 롤백되면 실행합니다. 트랜잭션이 없으면 아무것도 하지 않습니다.
+   * 트랜잭션 밖에 먼저 만든 파일처럼, 롤백 시 따로 정리해야 하는 작업에 사용합니다.
+   */
+  public static void runAfterRollback(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status == STATUS_ROLLED_BACK) {
+            action.run();
+          }
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package heekuu.table.common.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한이 있는 스레드 안전 TTL 캐시
+ *
+ * 항목은 저장 후 TTL 이 지나면 만료된다. 가득 차면 만료된 항목을 먼저 정리하고,
+ * 그래도 가득 차 있으면 새 항목은 저장하지 않는다. (호출 측은 원본을 다시 조회)
+ */
+public final class TtlCache<K, V> {
+
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final long ttlMillis;
+  private final int maxSize;
+
+  public TtlCache(long ttlMillis, int maxSize) {
+    this.ttlMillis = ttlMillis;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * 만료되지 않은 값을 반환합니다. 없으면 null
+   */
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null || entry.isExpired()) {
+      return null;
+    }
+    return entry.value();
+  }
+
+  /**
+   * 캐시된 값이 없으면 loader 로 읽어 저장한 뒤 반환합니다.
+   * 동시에 같은 키를 조회하면 loader 가 여러 번 실행될 수 있습니다.
+   */
+  public V getOrLoad(K key, Supplier<V> loader) {
+    V cached = get(key);
+    if (cached != null) {
+      return cached;
+    }
+    V value = loader.get();
+    put(key, value);
+    return value;
+  }
+
+  public void put(K key, V value) {
+    if (value == null) {
+      return;
+    }
+    if (entries.size() >= maxSize) {
+      entries.values().removeIf(Entry::isExpired);
+      if (entries.size() >= maxSize) {
+        return;
+      }
+    }
+    entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+  }
+
+  public void evict(K key) {
+    entries.remove(key);
+  }
+
+  private record Entry<V>(V value, long expiresAt) {
+
+    boolean isExpired() {
+      return expiresAt <= System.currentTimeMillis();
+    }
+  }
+}
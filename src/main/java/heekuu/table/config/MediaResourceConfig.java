@@ -0,0 +1,26 @@
+package heekuu.table.config;
+
+import heekuu.table.common.media.LocalMediaStore;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 로컬 미디어 저장소의 파일을 정적 리소스로 제공 (키가 UUID 라 내용이 바뀌지 않으므로 길게 캐시)
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.store", havingValue = "local", matchIfMissing = true)
+public class MediaResourceConfig implements WebMvcConfigurer {
+
+  private final LocalMediaStore localMediaStore;
+
+  @Override
+  public void addResourceHandlers(ResourceHandlerRegistry registry) {
+    registry.addResourceHandler(localMediaStore.getUrlPrefix() + "**")
+        .addResourceLocations(localMediaStore.getBaseDirectory().toUri().toString())
+        .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic());
+  }
+}
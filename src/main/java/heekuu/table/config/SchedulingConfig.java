@@ -0,0 +1,22 @@
+package heekuu.table.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+  // 배치 사이에 쉬는 정리 작업이 다른 스케줄 작업을 막지 않도록 스레드를 여러 개 사용
+  @Bean
+  public ThreadPoolTaskScheduler taskScheduler(
+      @Value("${scheduling.pool-size:4}") int poolSize) {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduling-");
+    return scheduler;
+  }
+}
@@ -0,0 +1,16 @@
+package heekuu.table.config;
+
+import heekuu.table.search.index.Analyzer;
+import heekuu.table.search.index.KoreanNgramAnalyzer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+  // 색인과 검색어 분석에 같은 분석기를 사용, 한글은 형태소 분석 없이 음절 n-gram 으로 색인
+  @Bean
+  public Analyzer searchAnalyzer() {
+    return new KoreanNgramAnalyzer();
+  }
+}
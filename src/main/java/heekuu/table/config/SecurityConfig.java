@@ -1,24 +1,39 @@
 package heekuu.table.config;
 
 import heekuu.table.OAuth.handler.CustomOauth2SuccessHandler;
+import heekuu.table.OAuth.repository.HttpCookieOAuth2AuthorizationRequestRepository;
 import heekuu.table.OAuth.service.CustomOauth2UserServiceImpl;
+import heekuu.table.common.util.BoundedBCryptPasswordEncoder;
+import heekuu.table.common.util.SlidingWindowRateLimiter;
+import heekuu.table.jwt.filter.AuthThrottleFilter;
+import heekuu.table.jwt.filter.AuthThrottleFilter.ThrottlePolicy;
 import heekuu.table.jwt.filter.CustomLogoutFilter;
 import heekuu.table.jwt.filter.JWTFilter;
 import heekuu.table.jwt.filter.LoginFilter;
 import heekuu.table.jwt.util.JWTUtil;
-import heekuu.table.token.repository.RefreshTokenRepository;
+import heekuu.table.token.service.RefreshTokenFamilyService;
+import heekuu.table.token.service.RefreshTokenStore;
+import heekuu.table.token.service.TokenBlacklistService;
 import heekuu.table.user.repository.UserRepository;
+import heekuu.table.user.service.UserPrincipalCache;
+import heekuu.table.user.service.UserSecurityVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 
@@ -30,10 +45,31 @@ public class SecurityConfig {
 
   private final AuthenticationConfiguration authenticationConfiguration;
   private final JWTUtil jwtUtil;
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenStore refreshTokenStore;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
   private final UserRepository userRepository;
   private final CustomOauth2UserServiceImpl customOAuth2UserService;
   private final CustomOauth2SuccessHandler customOauth2SuccessHandler;
+  private final HttpCookieOAuth2AuthorizationRequestRepository cookieAuthorizationRequestRepository;
+  private final UserSecurityVersionService userSecurityVersionService;
+  private final UserPrincipalCache userPrincipalCache;
+  private final TokenBlacklistService tokenBlacklistService;
+  private final SlidingWindowRateLimiter slidingWindowRateLimiter;
+  private final MeterRegistry meterRegistry;
+
+  // USER/ADMIN 토큰의 principal 을 DB 조회 없이 클레임으로 구성할지 여부
+  @Value("${jwt.stateless-principal:false}")
+  private boolean statelessPrincipal;
+
+  // 로그인/재발급 요청 제한 (IP 별, 계정 별 슬라이딩 윈도우)
+  @Value("${auth.throttle.ip.limit:30}")
+  private int throttleIpLimit;
+  @Value("${auth.throttle.ip.window-ms:60000}")
+  private long throttleIpWindowMillis;
+  @Value("${auth.throttle.account.limit:5}")
+  private int throttleAccountLimit;
+  @Value("${auth.throttle.account.window-ms:300000}")
+  private long throttleAccountWindowMillis;
 
 
   @Bean
@@ -43,21 +79,91 @@ public class SecurityConfig {
     return configuration.getAuthenticationManager();
   }
 
+  /**
+   * 전용 스레드 풀에서 동작하는 BCrypt 인코더.
+   * password.bcrypt.strength 가 0 이면 기동 시 목표 지연시간에 맞춰 strength 를 보정한다.
+   */
   @Bean
-  public BCryptPasswordEncoder bCryptPasswordEncoder() {
-    return new BCryptPasswordEncoder();
+  public BCryptPasswordEncoder bCryptPasswordEncoder(MeterRegistry meterRegistry,
+      @Value("${password.bcrypt.strength:0}") int strength,
+      @Value("${password.bcrypt.target-ms:250}") long targetMillis,
+      @Value("${password.bcrypt.min-strength:10}") int minStrength,
+      @Value("${password.bcrypt.max-strength:14}") int maxStrength,
+      @Value("${password.hash.queue-capacity:64}") int queueCapacity) {
+    int resolvedStrength = strength > 0 ? strength
+        : BoundedBCryptPasswordEncoder.calibrate(targetMillis, minStrength, maxStrength);
+    int threads = Runtime.getRuntime().availableProcessors();
+    return new BoundedBCryptPasswordEncoder(resolvedStrength, threads, queueCapacity,
+        meterRegistry);
   }
 
+  /**
+   * JWT 로만 인증하는 API 체인. 세션을 만들거나 읽지 않고, 인증 실패는 리다이렉트 대신 401 로 응답한다.
+   */
   @Bean
-  public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+  @Order(1)
+  public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
+    http.securityMatcher("/api/**", "/questions/**", "/answers/**");
 
-    // CSRF 및 CORS 설정
-    http.csrf().disable();
-    http.cors().disable();
+    http.csrf(AbstractHttpConfigurer::disable);
+    http.cors(AbstractHttpConfigurer::disable);
+    http.formLogin(AbstractHttpConfigurer::disable);
+    http.httpBasic(AbstractHttpConfigurer::disable);
+    http.logout(AbstractHttpConfigurer::disable);
 
     // 세션 관리 설정
-    http.sessionManagement()
-        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED);
+    http.sessionManagement(session -> session
+        .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+    http.exceptionHandling(exception -> exception
+        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)));
+
+    // 권한 설정
+    http.authorizeHttpRequests(auth -> auth
+        .requestMatchers(
+            "/questions/all",
+            "/questions/all/cursor",
+            "/questions/search",
+            "/questions/trending",
+            "/answers/{answerId}",
+            "/api/auth/social-login",
+            "/api/owners/**",
+            "/api/reservation/**",
+            "/api/calendar/**",
+            "/api/stores/**",
+            "/api/stores",
+            "/api/menus/**"
+        ).permitAll()
+        .requestMatchers("/api/reservation/**").authenticated()
+        .requestMatchers("/api/admin/**").hasAuthority("ADMIN")
+        .requestMatchers("/api/user/preferences/**").hasAnyAuthority("USER", "ADMIN")
+        .requestMatchers("/answers/**").hasAnyAuthority("USER", "ADMIN")
+        .requestMatchers("/questions").hasAnyAuthority("USER", "ADMIN")
+        .anyRequest().authenticated()
+    );
+
+    // 오너 로그인 요청 제한
+    http.addFilterBefore(authThrottleFilter(), LogoutFilter.class);
+    http.addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class);
+
+    return http.build();
+  }
+
+  /**
+   * 폼 로그인과 OAuth2 로그인을 처리하는 나머지 요청의 체인.
+   * OAuth2 인가 요청 상태는 서명된 쿠키에 저장하여 세션에 의존하지 않는다.
+   */
+  @Bean
+  @Order(2)
+  public SecurityFilterChain webFilterChain(HttpSecurity http) throws Exception {
+
+    // CSRF 및 CORS 설정
+    http.csrf(AbstractHttpConfigurer::disable);
+    http.cors(AbstractHttpConfigurer::disable);
+
+    // 세션 관리 설정 (폼 로그인 화면에서만 사용)
+    http.sessionManagement(session -> session
+        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED));
 
     // 권한 설정
     http.authorizeHttpRequests(auth -> auth
@@ -68,33 +174,18 @@ public class SecurityConfig {
             "/users/login",
             "/users/join",
             "/token/reissue",
-            "/questions/all",
-            "/answers/{answerId}",
             "/oauth2/**",
             "/login", // '/login' 경로 추가
             "/error",
             "/css/**", // 정적 리소스 경로 허용
             "/js/**",
             "/images/**",
+            "/media/**",
             "/users/social-logout",
-            "login/**",
-            "api/auth/social-login",
-            "/api/owners/**",
-            "/api/reservation/**",
-            "/api/calendar/**",
-            "/api/owners/**",
-            "/api/stores/**",
-            "/api/stores",
-            "/api/menus/**"
+            "login/**"
         ).permitAll()
-        // .requestMatchers("/api/calendar").hasAnyAuthority("USER", "ADMIN")
-        .requestMatchers("/api/reservation/**").authenticated()
-        .requestMatchers("/api/admin/**").hasAuthority("ADMIN")
         .requestMatchers("/user/**").hasAuthority("USER")
         .requestMatchers("/dashboard").hasAnyAuthority("USER", "ADMIN")
-        .requestMatchers("/api/user/preferences/**").hasAnyAuthority("USER", "ADMIN")
-        .requestMatchers("/answers/**").hasAnyAuthority("USER", "ADMIN")
-        .requestMatchers("/questions").hasAnyAuthority("USER", "ADMIN")
         .requestMatchers("/rewards/**").hasAnyAuthority("USER", "ADMIN")
         .anyRequest().authenticated()
     );
@@ -107,27 +198,40 @@ public class SecurityConfig {
         .permitAll()
     );
 
-
-
     // OAuth2 로그인 설정
     http.oauth2Login(oauth2 -> oauth2
+        .authorizationEndpoint(authorization -> authorization
+            .authorizationRequestRepository(cookieAuthorizationRequestRepository))
         .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
         .successHandler(customOauth2SuccessHandler)
     );
 
+    // 로그인/재발급 요청 제한, 인증 필터보다 먼저 실행되어 bcrypt/DB 작업 전에 거절
+    http.addFilterBefore(authThrottleFilter(), LogoutFilter.class);
+
     // 필요 시 LoginFilter 추가 (커스텀 인증 로직이 있을 경우)
     http.addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil,
-            refreshTokenRepository, userRepository),
+            refreshTokenFamilyService, userRepository),
         UsernamePasswordAuthenticationFilter.class);
 
     // JWT 필터 및 커스텀 로그아웃 필터 추가
-    http.addFilterBefore(new JWTFilter(userRepository, jwtUtil),
-        UsernamePasswordAuthenticationFilter.class);
-
+    http.addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class);
 
-    http.addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenRepository),
+    http.addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore, refreshTokenFamilyService),
         LogoutFilter.class);
 
     return http.build();
   }
-}
\ No newline at end of file
+
+  // 필터는 빈으로 등록하지 않음 (서블릿 컨테이너에 중복 등록되지 않도록 체인마다 생성)
+  private AuthThrottleFilter authThrottleFilter() {
+    return new AuthThrottleFilter(slidingWindowRateLimiter, meterRegistry,
+        new ThrottlePolicy(throttleIpLimit, throttleIpWindowMillis),
+        new ThrottlePolicy(throttleAccountLimit, throttleAccountWindowMillis));
+  }
+
+  private JWTFilter jwtFilter() {
+    return new JWTFilter(userRepository, jwtUtil, userSecurityVersionService,
+        userPrincipalCache, tokenBlacklistService, statelessPrincipal);
+  }
+}
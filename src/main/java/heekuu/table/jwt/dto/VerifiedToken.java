@@ -0,0 +1,104 @@
+package heekuu.table.jwt.dto;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+
+/**
+ * 서명 검증을 한 번만 거친 JWT 클레임의 불변 뷰
+ *
+ * JWTUtil.verify() 로만 생성되며, 생성 이후에는 파싱이나 서명 검증 없이 필드만 읽는다.
+ */
+public final class VerifiedToken {
+
+  private final String tokenType;
+  private final Long userId;
+  private final Long ownerId;
+  private final String role;
+  private final String nickname;
+  private final Long securityVersion; // ver 클레임, 이전에 발급된 토큰에는 없음
+  private final String familyId; // fid 클레임, 리프레시 토큰 패밀리
+  private final long issuedAtMillis;
+  private final long expirationMillis;
+
+  private VerifiedToken(String tokenType, Long userId, Long ownerId, String role, String nickname,
+      Long securityVersion, String familyId, long issuedAtMillis, long expirationMillis) {
+    this.tokenType = tokenType;
+    this.userId = userId;
+    this.ownerId = ownerId;
+    this.role = role;
+    this.nickname = nickname;
+    this.securityVersion = securityVersion;
+    this.familyId = familyId;
+    this.issuedAtMillis = issuedAtMillis;
+    this.expirationMillis = expirationMillis;
+  }
+
+  public static VerifiedToken from(Claims claims) {
+    Date issuedAt = claims.getIssuedAt();
+    Date expiration = claims.getExpiration();
+    return new VerifiedToken(
+        claims.get("tokenType", String.class),
+        claims.get("userid", Long.class),
+        claims.get("ownerId", Long.class),
+        claims.get("role", String.class),
+        claims.get("nickname", String.class),
+        claims.get("ver", Long.class),
+        claims.get("fid", String.class),
+        issuedAt != null ? issuedAt.getTime() : 0L,
+        expiration != null ? expiration.getTime() : Long.MAX_VALUE
+    );
+  }
+
+  public String getTokenType() {
+    return tokenType;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public Long getOwnerId() {
+    return ownerId;
+  }
+
+  public String getRole() {
+    return role;
+  }
+
+  public String getNickname() {
+    return nickname;
+  }
+
+  public Long getSecurityVersion() {
+    return securityVersion;
+  }
+
+  public String getFamilyId() {
+    return familyId;
+  }
+
+  public long getIssuedAtMillis() {
+    return issuedAtMillis;
+  }
+
+  public long getExpirationMillis() {
+    return expirationMillis;
+  }
+
+  public boolean isAccessToken() {
+    return "access".equals(tokenType);
+  }
+
+  public boolean isRefreshToken() {
+    return "refresh".equals(tokenType);
+  }
+
+  public boolean isExpired() {
+    return expirationMillis <= System.currentTimeMillis();
+  }
+
+  // 남은 유효시간 (밀리초), 이미 만료된 경우 0
+  public long getRemainingExpiration() {
+    return Math.max(expirationMillis - System.currentTimeMillis(), 0L);
+  }
+}
@@ -0,0 +1,130 @@
+package heekuu.table.jwt.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import heekuu.table.common.exception.ErrorCode;
+import heekuu.table.common.util.CachedBodyHttpServletRequest;
+import heekuu.table.common.util.JsonResponseWriter;
+import heekuu.table.common.util.SlidingWindowRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 로그인/재발급 요청 제한 필터
+ *
+ * 인증 필터보다 앞에서 클라이언트 IP 별, 계정(이메일) 별 슬라이딩 윈도우로 요청 수를 제한해
+ * 초과한 요청은 bcrypt 검증이나 DB 조회 전에 429 와 Retry-After 로 거절한다.
+ */
+@Slf4j
+public class AuthThrottleFilter extends OncePerRequestFilter {
+
+  private static final Set<String> LOGIN_URIS = Set.of("/users/login", "/api/owners/login");
+  private static final String REISSUE_URI = "/token/reissue";
+  private static final int MAX_BODY_BYTES = 16 * 1024;
+  private static final ObjectReader JSON_READER = new ObjectMapper().reader();
+
+  private final SlidingWindowRateLimiter rateLimiter;
+  private final MeterRegistry meterRegistry;
+  private final ThrottlePolicy ipPolicy;
+  private final ThrottlePolicy accountPolicy;
+
+  public AuthThrottleFilter(SlidingWindowRateLimiter rateLimiter, MeterRegistry meterRegistry,
+      ThrottlePolicy ipPolicy, ThrottlePolicy accountPolicy) {
+    this.rateLimiter = rateLimiter;
+    this.meterRegistry = meterRegistry;
+    this.ipPolicy = ipPolicy;
+    this.accountPolicy = accountPolicy;
+  }
+
+  /**
+   * 윈도우 안에서 허용할 요청 수
+   */
+  public record ThrottlePolicy(int limit, long windowMillis) {
+
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    return !"POST".equals(request.getMethod())
+        || !(LOGIN_URIS.contains(uri) || REISSUE_URI.equals(uri));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    String uri = request.getRequestURI();
+    String endpoint = REISSUE_URI.equals(uri) ? "reissue" : "login";
+
+    // 1. 클라이언트 IP 기준
+    long retryAfter = rateLimiter.tryAcquire(
+        endpoint + ":ip:" + request.getRemoteAddr(), ipPolicy.limit(), ipPolicy.windowMillis());
+    if (retryAfter > 0) {
+      reject(response, endpoint, "ip", retryAfter);
+      return;
+    }
+
+    if (!LOGIN_URIS.contains(uri)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    // 2. 계정 기준, 이메일을 읽기 위해 본문을 보관한 요청으로 교체
+    CachedBodyHttpServletRequest cachedRequest =
+        CachedBodyHttpServletRequest.wrap(request, MAX_BODY_BYTES);
+    if (cachedRequest == null) {
+      JsonResponseWriter.writeError(response, HttpServletResponse.SC_BAD_REQUEST,
+          ErrorCode.INVALID_INPUT_VALUE.getMessage());
+      return;
+    }
+
+    String email = extractEmail(cachedRequest.getBody());
+    if (email != null) {
+      retryAfter = rateLimiter.tryAcquire(endpoint + ":account:" + email,
+          accountPolicy.limit(), accountPolicy.windowMillis());
+      if (retryAfter > 0) {
+        reject(response, endpoint, "account", retryAfter);
+        return;
+      }
+    }
+
+    filterChain.doFilter(cachedRequest, response);
+  }
+
+  // 형식이 잘못된 본문은 여기서 거절하지 않고 뒤의 로그인 처리에 맡김
+  private String extractEmail(byte[] body) {
+    if (body.length == 0) {
+      return null;
+    }
+    try {
+      JsonNode email = JSON_READER.readTree(body).get("email");
+      if (email == null || !email.isTextual() || email.asText().isBlank()) {
+        return null;
+      }
+      return email.asText().trim().toLowerCase(Locale.ROOT);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void reject(HttpServletResponse response, String endpoint, String dimension,
+      long retryAfterMillis) throws IOException {
+    meterRegistry.counter("auth.throttle.blocked", "endpoint", endpoint, "dimension", dimension)
+        .increment();
+    log.warn("요청 제한 초과: {} ({}), {}ms 후 재시도 가능", endpoint, dimension, retryAfterMillis);
+
+    long retryAfterSeconds = Math.max((retryAfterMillis + 999) / 1000, 1);
+    response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+    JsonResponseWriter.writeError(response, ErrorCode.TOO_MANY_REQUESTS.getStatus().value(),
+        ErrorCode.TOO_MANY_REQUESTS.getMessage());
+  }
+}
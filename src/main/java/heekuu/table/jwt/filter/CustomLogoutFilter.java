@@ -1,8 +1,11 @@
 package heekuu.table.jwt.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import heekuu.table.common.util.JsonResponseWriter;
+import heekuu.table.jwt.dto.VerifiedToken;
 import heekuu.table.jwt.util.JWTUtil;
-import heekuu.table.token.repository.RefreshTokenRepository;
+import heekuu.table.token.service.RefreshTokenFamilyService;
+import heekuu.table.token.service.RefreshTokenStore;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -10,9 +13,8 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,11 +24,14 @@ import org.springframework.web.filter.GenericFilterBean;
 @Slf4j
 public class CustomLogoutFilter extends GenericFilterBean {
 
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenStore refreshTokenStore;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
   private final JWTUtil jwtUtil;
 
-  public CustomLogoutFilter(JWTUtil jwtUtil, RefreshTokenRepository refreshTokenRepository) {
-    this.refreshTokenRepository = refreshTokenRepository;
+  public CustomLogoutFilter(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore,
+      RefreshTokenFamilyService refreshTokenFamilyService) {
+    this.refreshTokenStore = refreshTokenStore;
+    this.refreshTokenFamilyService = refreshTokenFamilyService;
     this.jwtUtil = jwtUtil;
   }
 
@@ -68,18 +73,18 @@ public class CustomLogoutFilter extends GenericFilterBean {
       throws IOException {
     String refresh = extractRefreshToken(request);
 
-    if (refresh == null || jwtUtil.isExpired(refresh)) {
+    VerifiedToken token = verifyOrNull(refresh);
+    if (token == null) {
       sendErrorResponse(response, HttpServletResponse.SC_BAD_REQUEST, "유효하지 않은 리프레시 토큰");
       return;
     }
 
-    if (!jwtUtil.getTokenType(refresh).equals("refresh") || !refreshTokenRepository.existsByRefresh(
-        refresh)) {
+    if (!token.isRefreshToken() || !isCurrentRefreshToken(token, refresh)) {
       sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다.");
       return;
     }
 
-    refreshTokenRepository.deleteByUserId(jwtUtil.getUserId(refresh));
+    deleteRefreshToken(token);
     removeCookie(response, "refresh");
     sendSuccessResponse(response, "JWT 로그아웃 성공");
   }
@@ -92,15 +97,19 @@ public class CustomLogoutFilter extends GenericFilterBean {
     if (auth != null) {
       log.debug("Clearing SecurityContext for user: " + auth.getName());
       SecurityContextHolder.clearContext();
-      request.getSession().invalidate(); // 세션 무효화
+      // 세션이 있을 때만 무효화 (없는 세션을 새로 만들지 않음)
+      HttpSession session = request.getSession(false);
+      if (session != null) {
+        session.invalidate();
+      }
     }
 
     // 로그 추가
-    String refreshToken = extractRefreshToken(request);
+    VerifiedToken refreshToken = verifyOrNull(extractRefreshToken(request));
     if (refreshToken != null) {
-      Long userId = jwtUtil.getUserId(refreshToken);
+      Long userId = refreshToken.getUserId();
       log.debug("Deleting refresh token for user ID: " + userId);
-      refreshTokenRepository.deleteByUserId(userId);
+      deleteRefreshToken(refreshToken);
     } else {
       log.debug("No refresh token found in cookies for social logout.");
     }
@@ -112,6 +121,35 @@ public class CustomLogoutFilter extends GenericFilterBean {
     sendSuccessResponse(response, "소셜 로그아웃 성공");
   }
 
+  // 패밀리 토큰은 패밀리의 현재 토큰과, 이전 토큰은 저장소와 비교
+  private boolean isCurrentRefreshToken(VerifiedToken token, String refresh) {
+    if (token.getFamilyId() != null) {
+      return refreshTokenFamilyService.isCurrent(token.getUserId(), token.getFamilyId(), refresh);
+    }
+    return refreshTokenStore.matches(token.getUserId(), refresh);
+  }
+
+  private void deleteRefreshToken(VerifiedToken token) {
+    if (token.getFamilyId() != null) {
+      refreshTokenFamilyService.revoke(token.getUserId(), token.getFamilyId());
+      return;
+    }
+    refreshTokenStore.delete(token.getUserId());
+  }
+
+  // 서명 검증을 한 번만 수행, 만료되었거나 유효하지 않으면 null
+  private VerifiedToken verifyOrNull(String token) {
+    if (token == null) {
+      return null;
+    }
+    try {
+      return jwtUtil.verify(token);
+    } catch (JwtException | IllegalArgumentException e) {
+      log.debug("Refresh token verification failed: {}", e.getMessage());
+      return null;
+    }
+  }
+
   private String extractRefreshToken(HttpServletRequest request) {
     if (request.getCookies() != null) {
       for (Cookie cookie : request.getCookies()) {
@@ -130,33 +168,14 @@ public class CustomLogoutFilter extends GenericFilterBean {
     response.addCookie(cookie);
   }
 
+  // 메시지가 고정되어 있으므로 한 번만 직렬화된 본문을 재사용
   private void sendErrorResponse(HttpServletResponse response, int statusCode, String message)
       throws IOException {
-    response.setStatus(statusCode);
-    response.setContentType("application/json;charset=UTF-8");
-
-    Map<String, Object> errorData = new HashMap<>();
-    errorData.put("status", statusCode);
-    errorData.put("error", message);
-
-    ObjectMapper objectMapper = new ObjectMapper();
-    String responseBody = objectMapper.writeValueAsString(errorData);
-
-    response.getWriter().write(responseBody);
+    JsonResponseWriter.writeError(response, statusCode, message);
   }
 
   private void sendSuccessResponse(HttpServletResponse response, String message)
       throws IOException {
-    response.setStatus(HttpServletResponse.SC_OK);
-    response.setContentType("application/json;charset=UTF-8");
-
-    Map<String, Object> successData = new HashMap<>();
-    successData.put("status", HttpServletResponse.SC_OK);
-    successData.put("message", message);
-
-    ObjectMapper objectMapper = new ObjectMapper();
-    String responseBody = objectMapper.writeValueAsString(successData);
-
-    response.getWriter().write(responseBody);
+    JsonResponseWriter.writeMessage(response, HttpServletResponse.SC_OK, message);
   }
-}
\ No newline at end of file
+}
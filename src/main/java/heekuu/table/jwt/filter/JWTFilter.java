@@ -1,11 +1,16 @@
 package heekuu.table.jwt.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import heekuu.table.jwt.dto.VerifiedToken;
 import heekuu.table.jwt.util.JWTUtil;
+import heekuu.table.token.service.TokenBlacklistService;
 import heekuu.table.user.dto.CustomUserDetails;
 import heekuu.table.user.dto.UserResponseDTO;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
+import heekuu.table.user.service.UserPrincipalCache;
+import heekuu.table.user.service.UserSecurityVersionService;
+import heekuu.table.user.type.Role;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -27,6 +32,11 @@ public class JWTFilter extends OncePerRequestFilter {
 
   private final UserRepository userRepository;
   private final JWTUtil jwtUtil;
+  private final UserSecurityVersionService userSecurityVersionService;
+  private final UserPrincipalCache userPrincipalCache;
+  private final TokenBlacklistService tokenBlacklistService;
+  // true 이면 USER/ADMIN 요청은 DB 조회 없이 서명된 클레임으로 principal 을 구성
+  private final boolean statelessPrincipal;
 
 
   @Override
@@ -51,32 +61,37 @@ public class JWTFilter extends OncePerRequestFilter {
     accessToken = accessToken.substring(7);
     log.debug("Extracted JWT Token: {}", accessToken);
     try {
-      if (jwtUtil.isExpired(accessToken)) {
+      // 서명 검증은 여기서 한 번만 수행하고, 이후에는 검증된 클레임만 사용
+      VerifiedToken token = jwtUtil.verify(accessToken);
+
+      if (!token.isAccessToken()) {
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.getWriter().print("Access token is expired");
+        response.getWriter().print("Invalid access token");
         return;
       }
 
-      if (!jwtUtil.getTokenType(accessToken).equals("access")) {
+      // 로그아웃으로 폐기된 토큰 차단 (대부분 Bloom 필터에서 Redis 조회 없이 통과)
+      if (tokenBlacklistService.isRevoked(accessToken)) {
+        log.warn("폐기된 Access Token 사용 시도. 요청 URI: {}", request.getRequestURI());
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.getWriter().print("Invalid access token");
+        response.getWriter().print("Access token has been revoked");
         return;
       }
 
 
 
-      String role = jwtUtil.getRole(accessToken);
+      String role = token.getRole();
       log.debug("Token Role: {}", role);
       // 역할에 따라 인증 처리
       switch (role) {
         case "OWNER":
-          authenticateOwner(accessToken);
+          authenticateOwner(token);
           break;
         case "USER":
-          authenticateUser(accessToken);
+          authenticateUser(token);
           break;
         case "ADMIN":
-          authenticateAdmin(accessToken);
+          authenticateAdmin(token);
           break;
         default:
           log.error("알 수 없는 역할. 요청 URI: {}, 역할: {}", request.getRequestURI(), role);
@@ -88,7 +103,14 @@ public class JWTFilter extends OncePerRequestFilter {
     } catch (ExpiredJwtException e) {
       log.error("JWT 만료 예외 발생. 요청 URI: {}, 사용자 IP: {}, 에러 메시지: {}", request.getRequestURI(), request.getRemoteAddr(), e.getMessage());
       response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-      response.getWriter().print("Access token expired");
+      response.getWriter().print("Access token is expired");
+      return;
+    } catch (StaleSecurityVersionException e) {
+      // 권한 변경 등으로 폐기된 토큰, permitAll 경로라도 컨트롤러로 넘기지 않음
+      log.warn("보안 버전이 지난 Access Token 사용 시도. 요청 URI: {}, 에러 메시지: {}", request.getRequestURI(), e.getMessage());
+      response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+      response.getWriter().print("Access token has been revoked");
+      return;
     } catch (UsernameNotFoundException e) {
       log.error("사용자를 찾을 수 없음. 요청 URI: {}, 에러 메시지: {}", request.getRequestURI(), e.getMessage());
       response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -108,10 +130,10 @@ public class JWTFilter extends OncePerRequestFilter {
   /**
    * OWNER 인증 처리
    *
-   * @param token JWT 토큰
+   * @param token 검증된 JWT 클레임
    */
-  private void authenticateOwner(String token) throws IOException {
-    Long ownerId = jwtUtil.getOwnerId(token);
+  private void authenticateOwner(VerifiedToken token) throws IOException {
+    Long ownerId = token.getOwnerId();
     if (ownerId == null) {
       throw new UsernameNotFoundException("Owner not found with id: null");
     }
@@ -130,18 +152,21 @@ public class JWTFilter extends OncePerRequestFilter {
   /**
    * USER 인증 처리
    *
-   * @param token JWT 토큰
+   * @param token 검증된 JWT 클레임
    */
-  private void authenticateUser(String token) throws IOException {
-    Long userId = jwtUtil.getUserId(token);
+  private void authenticateUser(VerifiedToken token) throws IOException {
+    Long userId = token.getUserId();
     if (userId == null) {
       throw new UsernameNotFoundException("User not found with id: null");
     }
 
-    User user = userRepository.findByUserId(userId)
-        .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
-
-    CustomUserDetails customUserDetails = new CustomUserDetails(user);
+    CustomUserDetails customUserDetails;
+    if (canUseClaims(token)) {
+      customUserDetails = principalFromClaims(token, Role.USER);
+    } else {
+      customUserDetails = userPrincipalCache.get(userId)
+          .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+    }
     Authentication authToken = new UsernamePasswordAuthenticationToken(
         customUserDetails, null, customUserDetails.getAuthorities());
     SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -152,18 +177,21 @@ public class JWTFilter extends OncePerRequestFilter {
   /**
    * ADMIN 인증 처리
    *
-   * @param token JWT 토큰
+   * @param token 검증된 JWT 클레임
    */
-  private void authenticateAdmin(String token) throws IOException {
-    Long adminId = jwtUtil.getUserId(token);
+  private void authenticateAdmin(VerifiedToken token) throws IOException {
+    Long adminId = token.getUserId();
     if (adminId == null) {
       throw new UsernameNotFoundException("Admin not found with id: null");
     }
 
-    User admin = userRepository.findByUserId(adminId)
-        .orElseThrow(() -> new UsernameNotFoundException("Admin not found with id: " + adminId));
-
-    CustomUserDetails customUserDetails = new CustomUserDetails(admin);
+    CustomUserDetails customUserDetails;
+    if (canUseClaims(token)) {
+      customUserDetails = principalFromClaims(token, Role.ADMIN);
+    } else {
+      customUserDetails = userPrincipalCache.get(adminId)
+          .orElseThrow(() -> new UsernameNotFoundException("Admin not found with id: " + adminId));
+    }
     Authentication authToken = new UsernamePasswordAuthenticationToken(
         customUserDetails, null, customUserDetails.getAuthorities());
     SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -171,12 +199,47 @@ public class JWTFilter extends OncePerRequestFilter {
     logAuthenticatedUser(customUserDetails);
   }
 
+  // ver 클레임이 없는 이전 토큰은 기존처럼 DB 에서 조회
+  private boolean canUseClaims(VerifiedToken token) {
+    return statelessPrincipal && token.getSecurityVersion() != null;
+  }
+
+  /**
+   * 서명된 클레임(id, role, nickname, ver)으로 principal 을 구성합니다.
+   * 보안 버전은 캐시된 값과만 비교하므로 User 전체를 조회하지 않습니다.
+   *
+   * @param token 검증된 JWT 클레임
+   * @param role  토큰의 역할
+   * @return 클레임 기반 사용자 정보
+   */
+  private CustomUserDetails principalFromClaims(VerifiedToken token, Role role) {
+    Long userId = token.getUserId();
+    Long currentVersion = userSecurityVersionService.getCurrentVersion(userId);
+    if (currentVersion == null) {
+      throw new UsernameNotFoundException("User not found with id: " + userId);
+    }
+    if (token.getSecurityVersion() < currentVersion) {
+      throw new StaleSecurityVersionException("Stale security version for user id: " + userId);
+    }
+
+    User user = User.builder()
+        .userId(userId)
+        .nickname(token.getNickname())
+        .role(role)
+        .securityVersion(token.getSecurityVersion())
+        .build();
+    return new CustomUserDetails(user);
+  }
+
   /**
    * 인증된 사용자 정보를 로깅
    *
    * @param userDetails 인증된 사용자 정보
    */
   private void logAuthenticatedUser(CustomUserDetails userDetails) throws IOException {
+    if (!log.isDebugEnabled()) {
+      return; // 디버그 로그가 꺼져 있으면 요청마다 직렬화하지 않음
+    }
     UserResponseDTO userResponse = new UserResponseDTO();
     userResponse.setUsername(userDetails.getUsername());
     userResponse.setEmail(userDetails.getEmail());
@@ -188,4 +251,12 @@ public class JWTFilter extends OncePerRequestFilter {
         .writeValueAsString(userResponse);
     log.debug("Authenticated User Details: {}", jsonResponse);
   }
+
+  // 보안 버전이 현재보다 낮은 토큰, 일반 JwtException 과 달리 필터 체인을 진행하지 않음
+  private static class StaleSecurityVersionException extends JwtException {
+
+    StaleSecurityVersionException(String message) {
+      super(message);
+    }
+  }
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package heekuu.table.jwt.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import heekuu.table.common.exception.CustomException;
 import heekuu.table.common.exception.ErrorCode;
+import heekuu.table.common.util.JsonResponseWriter;
 import heekuu.table.config.TokenConfig;
 import heekuu.table.jwt.util.JWTUtil;
-import heekuu.table.token.entity.RefreshToken;
-import heekuu.table.token.repository.RefreshTokenRepository;
+import heekuu.table.token.service.RefreshTokenFamilyService;
 import heekuu.table.user.dto.CustomUserDetails;
 import heekuu.table.user.dto.LoginDTO;
 import heekuu.table.user.entity.User;
@@ -16,12 +17,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Collection;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,18 +36,23 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
+  // 스레드 안전한 공유 리더, 요청 본문 스트림에서 바로 LoginDTO 로 파싱
+  private static final ObjectReader LOGIN_DTO_READER = new ObjectMapper().readerFor(LoginDTO.class);
+  private static final byte[] AUTHENTICATION_FAILED_BODY =
+      JsonResponseWriter.serialize(Map.of("error", "Authentication failed"));
+
   private final JWTUtil jwtUtil;
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
   private final UserRepository userRepository;
 
 
 
   public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil,
-      RefreshTokenRepository refreshTokenRepository, UserRepository userRepository) {
+      RefreshTokenFamilyService refreshTokenFamilyService, UserRepository userRepository) {
     super.setAuthenticationManager(authenticationManager);
     this.jwtUtil = jwtUtil;
     this.userRepository = userRepository;
-    this.refreshTokenRepository = refreshTokenRepository;
+    this.refreshTokenFamilyService = refreshTokenFamilyService;
 
     this.setFilterProcessesUrl("/users/login");
   }
@@ -58,15 +61,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
   public Authentication attemptAuthentication(HttpServletRequest request,
       HttpServletResponse response) {
     try {
-      BufferedReader reader = request.getReader();
-      StringBuilder json = new StringBuilder();
-      String line;
-      while ((line = reader.readLine()) != null) {
-        json.append(line);
-      }
-
-      ObjectMapper mapper = new ObjectMapper();
-      LoginDTO loginDTO = mapper.readValue(json.toString(), LoginDTO.class);
+      LoginDTO loginDTO = LOGIN_DTO_READER.readValue(request.getInputStream());
 
       String email = loginDTO.getEmail();
       String password = loginDTO.getPassword();
@@ -79,6 +74,15 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
       UsernamePasswordAuthenticationToken authRequest =
           new UsernamePasswordAuthenticationToken(email, password);
       return this.getAuthenticationManager().authenticate(authRequest);
+    } catch (CustomException ex) {
+      // 입력값 오류, 해시 큐 포화(SERVER_BUSY) 등
+      log.warn("로그인 요청 처리 불가: {}", ex.getMessage());
+      try {
+        handleException(response, ex);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      return null;
     } catch (IOException e) {
       log.error("로그인 요청 데이터 처리 중 오류 발생: {}", e.getMessage());
       try {
@@ -90,7 +94,9 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     } catch (AuthenticationException ex) {
       log.warn("잘못된 로그인 시도: {}", ex.getMessage());
       try {
-        handleException(response, new CustomException(ErrorCode.INVALID_CREDENTIALS));
+        // 사용자 조회 중 발생한 해시 큐 포화는 InternalAuthenticationServiceException 으로 감싸져 옴
+        handleException(response, ex.getCause() instanceof CustomException cause
+            ? cause : new CustomException(ErrorCode.INVALID_CREDENTIALS));
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
@@ -120,26 +126,17 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
 
       // 1. 새로운 Access Token 및 Refresh Token 생성
+      // 패밀리 토큰은 패밀리 키로만 검증하므로 이전 토큰 저장소에는 쓰지 않는다
       String accessToken = jwtUtil.createJwt("access", user, role);
-      String refreshToken = jwtUtil.createJwt("refresh", user, role);
+      String refreshToken = refreshTokenFamilyService.issue(user, role); // 새 패밀리
 
       log.info("새로운 Access Token 생성 완료: {}", accessToken);
       log.info("새로운 Refresh Token 생성 완료: {}", refreshToken);
 
-
-      // 2. Refresh Token 덮어쓰기
-      upsertRefreshToken(user, refreshToken );
-
-      // 3. 응답 처리
-      Map<String, String> tokens = new HashMap<>();
-      tokens.put("accessToken", accessToken);
-
+      // 2. 응답 처리
       response.addCookie(createCookie("refresh", refreshToken)); // Refresh Token 쿠키에 저장
-      response.setContentType("application/json");
-      response.setCharacterEncoding("UTF-8");
-
-      new ObjectMapper().writeValue(response.getWriter(), tokens); // JSON 응답
-      response.setStatus(HttpStatus.OK.value());
+      JsonResponseWriter.writeValue(response, HttpStatus.OK.value(),
+          Map.of("accessToken", accessToken)); // JSON 응답
     } catch (CustomException ex) {
       handleException(response, ex);
     } catch (Exception e) {
@@ -148,49 +145,11 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     }
   }
 
-
-// Refresh Token 덮어쓰기 메서드
-  private void upsertRefreshToken(User user, String refreshToken) {
-    long expiredMs = jwtUtil.getRefreshTokenExpiration();
-    Date expirationDate = new Date(System.currentTimeMillis() + expiredMs);
-
-    RefreshToken refreshTokenEntity = refreshTokenRepository
-        .findByUser_UserId(user.getUserId())
-        .orElseGet(() -> {
-          RefreshToken newToken = new RefreshToken();
-          newToken.setUser(user);
-          return newToken;
-        });
-
-    // 기존 엔티티에 새로운 값 업데이트
-    refreshTokenEntity.setRefresh(refreshToken);
-    refreshTokenEntity.setExpiration(expirationDate.toString());
-
-    // 저장 또는 업데이트
-    refreshTokenRepository.save(refreshTokenEntity);
-  }
   private void handleException(HttpServletResponse response, CustomException ex)
       throws IOException {
-    response.setStatus(ex.getStatus().value());
-    response.setContentType("application/json;charset=UTF-8");
-
-    Map<String, Object> responseBody = new HashMap<>();
-    responseBody.put("status", ex.getStatus().value());
-    responseBody.put("error", ex.getErrorCode().getMessage());
-
-    String jsonResponse = new ObjectMapper().writeValueAsString(responseBody);
-    response.getWriter().write(jsonResponse);
-  }
-
-  private void addRefreshToken(User user, String refreshToken, Long expiredMs) {
-    Date expirationDate = new Date(System.currentTimeMillis() + expiredMs);
-
-    RefreshToken refreshTokenEntity = new RefreshToken();
-    refreshTokenEntity.setUser(user);
-    refreshTokenEntity.setRefresh(refreshToken);
-    refreshTokenEntity.setExpiration(expirationDate.toString());
-
-    refreshTokenRepository.save(refreshTokenEntity);
+    // 상태 코드와 메시지 조합별로 한 번만 직렬화된 본문 재사용
+    JsonResponseWriter.writeError(response, ex.getStatus().value(),
+        ex.getErrorCode().getMessage());
   }
 
   private Cookie createCookie(String key, String value) {
@@ -207,13 +166,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
       AuthenticationException failed) throws IOException {
     log.warn("로그인 실패: {}", failed.getMessage());
 
-    response.setStatus(HttpStatus.UNAUTHORIZED.value());
-    Map<String, String> error = new HashMap<>();
-    error.put("error", "Authentication failed");
-
-    response.setContentType("application/json");
-    response.setCharacterEncoding("UTF-8");
-
-    new ObjectMapper().writeValue(response.getWriter(), error);
+    JsonResponseWriter.write(response, HttpStatus.UNAUTHORIZED.value(),
+        AUTHENTICATION_FAILED_BODY);
   }
 }
\ No newline at end of file
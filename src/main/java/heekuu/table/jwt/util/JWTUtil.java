@@ -1,10 +1,14 @@
 package heekuu.table.jwt.util;
 
 import heekuu.table.config.TokenConfig;
+import heekuu.table.jwt.dto.VerifiedToken;
 import heekuu.table.owner.entity.Owner;
 import heekuu.table.user.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -24,13 +28,19 @@ public class JWTUtil {
 
   private final TokenConfig tokenConfig;
   private final Key key;
+  private final JwtParser parser; // 불변/스레드 안전하므로 한 번만 생성해 재사용
+  private final VerifiedTokenCache verifiedTokenCache;
 
   @Autowired
-  public JWTUtil(@Value("${spring.jwt.secret}") String secret, TokenConfig tokenConfig) {
+  public JWTUtil(@Value("${spring.jwt.secret}") String secret, TokenConfig tokenConfig,
+      VerifiedTokenCache verifiedTokenCache) {
     this.tokenConfig = tokenConfig;
+    this.verifiedTokenCache = verifiedTokenCache;
     byte[] keyBytes = Decoders.BASE64.decode(secret);  // Base64 디코딩
     this.key = Keys.hmacShaKeyFor(keyBytes); // 키 생성
-
+    this.parser = Jwts.parser()
+        .setSigningKey(key)
+        .build();
   }
 
   @PostConstruct
@@ -41,46 +51,61 @@ public class JWTUtil {
   }
 
   private Claims getClaims(String token) {
-    return Jwts.parser()
-        .setSigningKey(key)
-        .build()
+    return parser
         .parseClaimsJws(token)
         .getBody();
 
 
   }
 
+  /**
+   * 토큰을 한 번만 파싱하고 서명을 검증한 뒤, 클레임을 불변 객체로 반환합니다.
+   * 한 요청에서 여러 클레임이 필요하면 개별 getter 대신 이 메서드를 사용합니다.
+   * 이미 검증된 토큰은 exp 시각까지 캐시에서 바로 반환합니다.
+   * 블랙리스트(로그아웃) 확인은 JWTFilter 에서 요청마다 수행합니다.
+   *
+   * @param token JWT 문자열
+   * @return 검증된 클레임 뷰
+   * @throws ExpiredJwtException 토큰이 만료된 경우
+   * @throws JwtException 서명이 유효하지 않거나 형식이 잘못된 경우
+   */
+  public VerifiedToken verify(String token) {
+    VerifiedToken cached = verifiedTokenCache.get(token);
+    if (cached != null) {
+      return cached;
+    }
+
+    VerifiedToken verified = VerifiedToken.from(getClaims(token));
+    verifiedTokenCache.put(token, verified);
+    return verified;
+  }
+
   // 클레임에서 Owner ID 추출
   public Long getOwnerId(String token) {
-    Claims claims = getClaims(token);
-    return claims.get("ownerId", Long.class);
+    return verify(token).getOwnerId();
   }
 
 
   // User ID 추출
   public Long getUserId(String token) {
-    Claims claims = getClaims(token);
-    return claims.get("userid", Long.class);
+    return verify(token).getUserId();
   }
 
   // 토큰 타입 추출
   public String getTokenType(String token) {
-    Claims claims = getClaims(token);
-    return claims.get("tokenType", String.class);
+    return verify(token).getTokenType();
   }
 
 
   // Role 추출
   public String getRole(String token) {
-    Claims claims = getClaims(token);
-    return claims.get("role", String.class);
+    return verify(token).getRole();
   }
 
   // 토큰 만료 여부 확인
   public boolean isExpired(String token) {
     try {
-      Claims claims = getClaims(token);
-      return claims.getExpiration().before(new Date());
+      return verify(token).isExpired();
     } catch (ExpiredJwtException e) {
       // JWT가 만료된 경우 예외가 발생하므로, true 반환
       return true;
@@ -90,15 +115,42 @@ public class JWTUtil {
 
   // 유저타입토큰 생성
   public String createJwt(String tokenType, User user, String role) {
+    return createUserJwt(tokenType, user.getUserId(), role, user.getNickname(),
+        user.getSecurityVersion(), null);
+  }
+
+  // 패밀리 ID(fid)를 담은 리프레시 토큰 생성
+  public String createRefreshJwt(User user, String role, String familyId) {
+    return createUserJwt("refresh", user.getUserId(), role, user.getNickname(),
+        user.getSecurityVersion(), familyId);
+  }
+
+  /**
+   * 검증된 리프레시 토큰의 클레임으로 새 토큰을 생성합니다. (DB 조회 없이 재발급)
+   * 리프레시 토큰이면 같은 패밀리 ID 를 유지합니다.
+   */
+  public String createJwt(String tokenType, VerifiedToken source) {
+    return createUserJwt(tokenType, source.getUserId(), source.getRole(), source.getNickname(),
+        source.getSecurityVersion(), "refresh".equals(tokenType) ? source.getFamilyId() : null);
+  }
+
+  private String createUserJwt(String tokenType, Long userId, String role, String nickname,
+      Long securityVersion, String familyId) {
     long expiredMs = tokenType.equals("access") ? tokenConfig.getAccessTokenExpiration()
         : tokenConfig.getRefreshTokenExpiration();
     Date now = new Date();
     Date expiration = new Date(now.getTime() + expiredMs);
 
-    return Jwts.builder()
+    JwtBuilder builder = Jwts.builder()
         .claim("tokenType", tokenType)
-        .claim("userid", user.getUserId())
+        .claim("userid", userId)
         .claim("role", role)
+        .claim("nickname", nickname)
+        .claim("ver", securityVersion);
+    if (familyId != null) {
+      builder.claim("fid", familyId);
+    }
+    return builder
         .setIssuedAt(now)
         .setExpiration(expiration)
         .signWith(key)
@@ -139,9 +191,7 @@ public class JWTUtil {
   // Access Token의 남은 유효시간 계산
   public long getRemainingExpiration(String token) {
     try {
-      Claims claims = getClaims(token);
-      Date expiration = claims.getExpiration();
-      return expiration.getTime() - System.currentTimeMillis();
+      return verify(token).getRemainingExpiration();
     } catch (ExpiredJwtException e) {
       return 0; // 토큰이 이미 만료된 경우 남은 시간이 0
     }
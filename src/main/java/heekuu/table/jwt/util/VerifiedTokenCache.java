@@ -0,0 +1,144 @@
+package heekuu.table.jwt.util;
+
+import heekuu.table.common.util.HashUtil;
+import heekuu.table.jwt.dto.VerifiedToken;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 토큰을 보관하는 노드 로컬 캐시
+ *
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 세그먼트별 LRU 로 전체 크기를 제한한다.
+ * 엔트리는 토큰의 exp 시각이 지나면 조회 시점에 바로 제거된다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+  private static final int SEGMENT_COUNT = 16;
+
+  private final Segment[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize,
+      MeterRegistry meterRegistry) {
+    int perSegment = Math.max(maxSize / SEGMENT_COUNT, 1);
+    this.segments = new Segment[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment(perSegment, evictions);
+    }
+
+    FunctionCounter.builder("jwt.verified_cache.hits", hits, LongAdder::sum)
+        .description("검증 캐시 적중 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("jwt.verified_cache.misses", misses, LongAdder::sum)
+        .description("검증 캐시 미스 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("jwt.verified_cache.evictions", evictions, LongAdder::sum)
+        .description("용량 초과로 제거된 엔트리 수")
+        .register(meterRegistry);
+    Gauge.builder("jwt.verified_cache.size", this, VerifiedTokenCache::size)
+        .register(meterRegistry);
+
+    log.info("VerifiedTokenCache - max size: {}", perSegment * SEGMENT_COUNT);
+  }
+
+  /**
+   * 캐시된 검증 결과를 반환합니다. 없거나 이미 만료된 경우 null 을 반환합니다.
+   */
+  public VerifiedToken get(String token) {
+    String digest = HashUtil.sha256Hex(token);
+    Segment segment = segmentFor(digest);
+    VerifiedToken cached;
+    synchronized (segment) {
+      cached = segment.get(digest);
+      if (cached != null && cached.isExpired()) {
+        segment.remove(digest);
+        cached = null;
+      }
+    }
+    if (cached == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return cached;
+  }
+
+  public void put(String token, VerifiedToken verifiedToken) {
+    if (verifiedToken.isExpired()) {
+      return;
+    }
+    String digest = HashUtil.sha256Hex(token);
+    Segment segment = segmentFor(digest);
+    synchronized (segment) {
+      segment.put(digest, verifiedToken);
+    }
+  }
+
+  // 로그아웃 등으로 폐기된 토큰 제거
+  public void invalidate(String token) {
+    invalidateDigest(HashUtil.sha256Hex(token));
+  }
+
+  // 다른 노드에서 전파된 폐기 이벤트처럼 토큰 원문 없이 다이제스트만 아는 경우
+  public void invalidateDigest(String digest) {
+    Segment segment = segmentFor(digest);
+    synchronized (segment) {
+      segment.remove(digest);
+    }
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  private Segment segmentFor(String digest) {
+    return segments[Math.floorMod(digest.hashCode(), SEGMENT_COUNT)];
+  }
+
+  // 접근 순서 기반 LRU 세그먼트, 동기화는 호출 측에서 세그먼트 단위로 수행
+  private static final class Segment extends LinkedHashMap<String, VerifiedToken> {
+
+    private final int capacity;
+    private final LongAdder evictions;
+
+    private Segment(int capacity, LongAdder evictions) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+      this.evictions = evictions;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+      if (size() > capacity) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -9,12 +9,12 @@ import heekuu.table.owner.dto.OwnerLoginRequest;
 import heekuu.table.owner.entity.Owner;
 import heekuu.table.owner.repository.OwnerRepository;
 import heekuu.table.owner.type.OwnerStatus;
+import heekuu.table.token.service.OwnerRefreshTokenStore;
+import heekuu.table.token.service.TokenBlacklistService;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,9 +28,10 @@ public class OwnerService {
   private final OwnerRepository ownerRepository;
   private final PasswordEncoder passwordEncoder;
   private final S3Uploader s3Uploader;
-  private final RedisTemplate<String, Object> redisTemplate;
   private final JWTUtil jwtUtil;
   private final TokenConfig tokenConfig;
+  private final TokenBlacklistService tokenBlacklistService;
+  private final OwnerRefreshTokenStore ownerRefreshTokenStore;
 
   // 사업자 회원가입
   @Transactional
@@ -65,16 +66,18 @@ public class OwnerService {
       throw new IllegalStateException("비밀번호가 일치하지 않습니다.");
     }
 
+    // 저장된 해시의 strength 가 현재 설정보다 낮으면 새 비용으로 재해시
+    if (passwordEncoder.upgradeEncoding(owner.getPassword())) {
+      owner.setPassword(passwordEncoder.encode(ownerLoginRequest.getPassword()));
+      ownerRepository.save(owner);
+    }
+
     String accessToken = jwtUtil.createOwnerJwt("access", owner, "OWNER");
     String refreshToken = jwtUtil.createOwnerJwt("refresh", owner, "OWNER");
 
-    // Refresh Token을 Redis에 저장 (덮어쓰기)
-    redisTemplate.opsForValue().set(
-        "OWNER_REFRESH_TOKEN:" + owner.getOwnerId(), // Redis 키에 Owner ID 포함
-        refreshToken,
-        tokenConfig.getRefreshTokenExpiration(), //7일
-        TimeUnit.MILLISECONDS
-    );
+    // Refresh Token을 Redis에 저장 (덮어쓰기, 다이제스트만 저장)
+    ownerRefreshTokenStore.save(owner.getOwnerId(), refreshToken,
+        tokenConfig.getRefreshTokenExpiration()); //7일
     Map<String, String> tokens = new HashMap<>();
     tokens.put("access_token", accessToken);
     tokens.put("refresh_token", refreshToken);
@@ -85,24 +88,15 @@ public class OwnerService {
   // 사업자 로그아웃
   public void logout(String accessToken, String refreshToken) {
     // Refresh Token 삭제
-    String refreshTokenKey = "OWNER_REFRESH_TOKEN:" + jwtUtil.getOwnerId(refreshToken); // 키 변경
-    boolean isDeleted = redisTemplate.delete(refreshTokenKey);
+    boolean isDeleted = ownerRefreshTokenStore.delete(jwtUtil.getOwnerId(refreshToken));
     if (!isDeleted) {
       throw new IllegalStateException("Refresh Token이 이미 삭제되었거나 존재하지 않습니다.");
     }
 
-    // Access Token 블랙리스트에 추가
+    // Access Token 블랙리스트에 추가 (검증 캐시에서도 제거)
     try {
       long expiration = jwtUtil.getRemainingExpiration(accessToken);
-      if (expiration > 0) {
-        redisTemplate.opsForValue().set(
-            "BLACKLIST:" + accessToken,
-            "logout",
-            expiration,
-            TimeUnit.MILLISECONDS
-        );
-        System.out.println("Access Token이 블랙리스트에 추가되었습니다.");
-      }
+      tokenBlacklistService.revoke(accessToken, expiration);
     } catch (Exception e) {
       throw new IllegalStateException("유효하지 않은 Access Token입니다.", e);
     }
@@ -1,9 +1,11 @@
 package heekuu.table.questions.controller;
 
 import heekuu.table.common.exception.CustomException;
+import heekuu.table.common.media.MediaStore;
 import heekuu.table.common.exception.ErrorCode;
 import heekuu.table.common.util.SecurityUtil;
 import heekuu.table.questions.dto.AddQuestionResponseDto;
+import heekuu.table.questions.dto.CursorPageResponse;
 import heekuu.table.questions.dto.GetQuestionResponseDto;
 import heekuu.table.questions.dto.QuestionRequest;
 import heekuu.table.questions.dto.UpdateQuestionRequest;
@@ -11,12 +13,14 @@ import heekuu.table.questions.dto.UpdateQuestionResponse;
 import heekuu.table.questions.entity.Question;
 import heekuu.table.questions.service.QuestionService;
 import heekuu.table.questions.service.QuestionServiceImpl;
+import heekuu.table.questions.service.TrendingQuestionService;
 import heekuu.table.questions.type.SubjectNames;
 import heekuu.table.rewards.service.QuestionRewardService;
 import heekuu.table.user.dto.CustomUserDetails;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -47,6 +51,8 @@ public class QuestionApiController {
   private final QuestionService questionService;
   private final QuestionRewardService questionRewardService;
   private final QuestionServiceImpl questionServiceImpl;
+  private final MediaStore mediaStore;
+  private final TrendingQuestionService trendingQuestionService;
 
   /**
    * 모든 사용자가 접근 가능한 전체 문제를 조회합니다.
@@ -145,7 +151,8 @@ public class QuestionApiController {
     Long userId = userDetails.getUserId();  // 인증된 유저의 userId 추출
     // QuestionService에 userId를 전달하여 저장
     Question savedQuestion = questionService.saveQuestion(addQuestionRequest, userId);
-    AddQuestionResponseDto responseDto = AddQuestionResponseDto.fromEntity(savedQuestion);
+    AddQuestionResponseDto responseDto = AddQuestionResponseDto.fromEntity(savedQuestion,
+        mediaStore.urlOf(savedQuestion.getImageRef()));
     // 포인트 적립 로직 추가
     questionRewardService.rewardForQuestion(userId);
 
@@ -177,6 +184,75 @@ public class QuestionApiController {
     return ResponseEntity.ok(questions);
   }
 
+  /**
+   * 전체 문제를 커서 기반으로 조회합니다. (깊은 페이지도 일정한 지연시간)
+   *
+   * @param cursor    이전 응답의 nextCursor, 첫 페이지는 생략
+   * @param size      페이지당 항목 수
+   * @param withTotal true 면 대략적인 전체 개수 포함
+   * @return 문제 목록과 다음 페이지 커서 반환
+   */
+  @GetMapping("/all/cursor")
+  public ResponseEntity<CursorPageResponse<GetQuestionResponseDto>> getAllQuestionsByCursor(
+          @RequestParam(required = false) String cursor,
+          @RequestParam(defaultValue = "20") int size,
+          @RequestParam(defaultValue = "false") boolean withTotal) {
+
+    return ResponseEntity.ok(questionService.getQuestionFeed(cursor, size, withTotal));
+  }
+
+  /**
+   * 최근 답변, 좋아요, 작성 시각을 반영한 인기 질문을 조회합니다.
+   *
+   * @param subjectName 과목, 생략하면 전체
+   * @param size        최대 항목 수
+   * @return 점수 순 인기 질문 목록
+   */
+  @GetMapping("/trending")
+  public ResponseEntity<List<GetQuestionResponseDto>> getTrendingQuestions(
+          @RequestParam(required = false) String subjectName,
+          @RequestParam(defaultValue = "20") int size) {
+
+    SubjectNames subject = null;
+    if (subjectName != null) {
+      try {
+        subject = SubjectNames.valueOf(subjectName.toUpperCase());
+      } catch (IllegalArgumentException e) {
+        throw new CustomException(ErrorCode.INVALID_SUBJECT);
+      }
+    }
+    return ResponseEntity.ok(trendingQuestionService.getTrending(subject, size));
+  }
+
+  @GetMapping("/subject/{subjectName}/cursor")
+  public ResponseEntity<CursorPageResponse<GetQuestionResponseDto>> getQuestionBySubjectByCursor(
+          @PathVariable("subjectName") @NotNull String subjectName,
+          @RequestParam(required = false) String cursor,
+          @RequestParam(defaultValue = "20") int size,
+          @RequestParam(defaultValue = "false") boolean withTotal) {
+
+    SubjectNames subject;
+    try {
+      subject = SubjectNames.valueOf(subjectName.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new CustomException(ErrorCode.INVALID_SUBJECT);
+    }
+    return ResponseEntity.ok(
+        questionService.getQuestionFeedBySubject(subject, cursor, size, withTotal));
+  }
+
+  @GetMapping("/filter/cursor")
+  public ResponseEntity<CursorPageResponse<GetQuestionResponseDto>> getQuestionsBySolvedStatusByCursor(
+          @RequestParam(required = false) Boolean isSolved,
+          @RequestParam(required = false) String cursor,
+          @RequestParam(defaultValue = "20") int size,
+          @RequestParam(defaultValue = "false") boolean withTotal) {
+
+    Long userId = securityUtil.getCurrentUserId();
+    return ResponseEntity.ok(
+        questionService.getUserQuestionFeed(userId, isSolved, cursor, size, withTotal));
+  }
+
   @DeleteMapping("/{questionId}")
   public ResponseEntity<Void> deleteQuestion(@PathVariable Long questionId){
     questionService.deleteQuestion(questionId);
@@ -16,18 +16,18 @@ public class AddQuestionResponseDto {
   private final SubjectNames subjectName;
   private final String title;
   private final String content;
-  private final byte[] image;
+  private final String imageUrl;
   private final boolean isSolved;
   private final String createdAt;
 
-  public static AddQuestionResponseDto fromEntity(Question question) {
+  public static AddQuestionResponseDto fromEntity(Question question, String imageUrl) {
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm");  // 원하는 형식 지정
     return AddQuestionResponseDto.builder()
         .questionId(question.getQuestionId())
         .title(question.getTitle())
         .subjectName(question.getSubjectName())
         .content(question.getContent())
-        .image(question.getImage())
+        .imageUrl(imageUrl)
         .isSolved(question.isSolved())
         .createdAt(question.getCreatedAt().format(formatter))
         .build();
@@ -0,0 +1,20 @@
+package heekuu.table.questions.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * @param content          현재 페이지 항목
+ * @param nextCursor       다음 페이지 요청에 사용할 커서, 마지막 페이지면 null
+ * @param hasNext          다음 페이지 존재 여부
+ * @param approximateTotal 요청한 경우에만 채워지는 대략적인 전체 개수 (캐시된 값)
+ */
+public record CursorPageResponse<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext,
+    Long approximateTotal
+) {
+
+}
@@ -16,22 +16,36 @@ public class GetQuestionResponseDto {
   private final SubjectNames subjectName;
   private final String title;
   private final String content;
-  private final byte[] image;
+  private final String imageUrl;
   private final boolean isSolved;
   private final LocalDateTime createdAt;
   private final LocalDateTime updatedAt;
 
-  public static GetQuestionResponseDto fromEntity(Question question){
+  public static GetQuestionResponseDto fromEntity(Question question, String imageUrl){
     return GetQuestionResponseDto.builder()
         .questionId(question.getQuestionId())
         .userId(question.getUser().getUserId())
         .subjectName(question.getSubjectName())
         .title(question.getTitle())
         .content(question.getContent())
-        .image(question.getImage())
+        .imageUrl(imageUrl)
         .isSolved(question.isSolved())
         .createdAt(question.getCreatedAt())
         .updatedAt(question.getUpdatedAt())
         .build();
   }
+
+  public static GetQuestionResponseDto fromSummary(QuestionSummary summary, String imageUrl) {
+    return GetQuestionResponseDto.builder()
+        .questionId(summary.questionId())
+        .userId(summary.userId())
+        .subjectName(summary.subjectName())
+        .title(summary.title())
+        .content(summary.content())
+        .imageUrl(imageUrl)
+        .isSolved(summary.isSolved())
+        .createdAt(summary.createdAt())
+        .updatedAt(summary.updatedAt())
+        .build();
+  }
 }
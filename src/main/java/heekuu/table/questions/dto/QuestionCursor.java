@@ -0,0 +1,47 @@
+package heekuu.table.questions.dto;
+
+import heekuu.table.common.exception.CustomException;
+import heekuu.table.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 질문 피드의 keyset 커서, (createdAt, questionId) 내림차순에서 마지막으로 본 위치
+ *
+ * 클라이언트에는 Base64url 로 인코딩한 불투명한 문자열로만 전달한다.
+ */
+public record QuestionCursor(LocalDateTime createdAt, Long questionId) {
+
+  // 첫 페이지: 모든 행보다 뒤에 있는 위치 (MySQL DATETIME 최댓값)
+  public static final QuestionCursor FIRST =
+      new QuestionCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+  public static QuestionCursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      return FIRST;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf('|');
+      if (separator < 0) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      return new QuestionCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+          Long.valueOf(decoded.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  public static QuestionCursor after(QuestionSummary summary) {
+    return new QuestionCursor(summary.createdAt(), summary.questionId());
+  }
+
+  public String encode() {
+    String raw = createdAt + "|" + questionId;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -30,13 +30,13 @@ public class QuestionRequest {
     this.image = image;
   }
 
-  public Question toEntity(QuestionRequest request, User user, byte[] imageBytes) {
+  public Question toEntity(QuestionRequest request, User user, String imageRef) {
     return Question.builder()
         .user(user)
         .title(request.getTitle())
         .subjectName(request.getSubjectName())
         .content(request.getContent())
-        .image(imageBytes)
+        .imageRef(imageRef)
         .build();
   }
 }
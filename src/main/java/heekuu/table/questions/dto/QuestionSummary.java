@@ -0,0 +1,22 @@
+package heekuu.table.questions.dto;
+
+import heekuu.table.questions.type.SubjectNames;
+import java.time.LocalDateTime;
+
+/**
+ * 질문 목록 조회용 projection, 목록 화면에 필요한 컬럼만 select 한다.
+ * (Question 엔티티, User 프록시, 영속성 컨텍스트 스냅샷을 만들지 않음)
+ */
+public record QuestionSummary(
+    Long questionId,
+    Long userId,
+    SubjectNames subjectName,
+    String title,
+    String content,
+    String imageRef,
+    boolean isSolved,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+}
@@ -16,19 +16,19 @@ public class UpdateQuestionResponse {
   private final SubjectNames subjectName;
   private final String title;
   private final String content;
-  private final byte[] image;
+  private final String imageUrl;
   private final boolean isSolved;
   private final LocalDateTime createdAt;
   private final LocalDateTime updatedAt;
 
-  public static UpdateQuestionResponse fromEntity(Question question){
+  public static UpdateQuestionResponse fromEntity(Question question, String imageUrl){
     return UpdateQuestionResponse.builder()
         .questionId(question.getQuestionId())
         .userId(question.getUser().getUserId())
         .subjectName(question.getSubjectName())
         .title(question.getTitle())
         .content(question.getContent())
-        .image(question.getImage())
+        .imageUrl(imageUrl)
         .isSolved(question.isSolved())
         .createdAt(question.getCreatedAt())
         .updatedAt(question.getUpdatedAt())
@@ -15,10 +15,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -31,6 +32,16 @@ import lombok.NoArgsConstructor;
  */
 @Getter
 @Entity
+@Table(name = "question", indexes = {
+    // 커서 피드 (createdAt, questionId) 내림차순 범위 조회용
+    @Index(name = "idx_question_created_at_id", columnList = "created_at, question_id"),
+    @Index(name = "idx_question_subject_created_at_id",
+        columnList = "subject_name, created_at, question_id"),
+    @Index(name = "idx_question_user_created_at_id",
+        columnList = "user_id, created_at, question_id"),
+    @Index(name = "idx_question_user_solved_created_at_id",
+        columnList = "user_id, is_solved, created_at, question_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Question extends BaseEntity implements OwnedResource {
 
@@ -59,24 +70,25 @@ public class Question extends BaseEntity implements OwnedResource {
   @Column(nullable = false)
   private String content;
 
-  @Lob
-  private byte[] image;
+  // 이미지는 MediaStore 에 저장하고 참조만 보관 (이전 image BLOB 컬럼은 QuestionImageMigration 으로 이전)
+  @Column(name = "image_ref")
+  private String imageRef;
 
   @Column(name = "is_solved", nullable = false)
   private boolean isSolved = false;
 
   @Builder
   public Question(
-          User user, String title, SubjectNames subjectName, String content, byte[] image
+          User user, String title, SubjectNames subjectName, String content, String imageRef
   ) {
     this.user = user;
     this.title = title;
     this.subjectName = subjectName;
     this.content = content;
-    this.image = image;
+    this.imageRef = imageRef;
   }
 
-  public void update(String title, SubjectNames subjectName, String content, byte[] image) {
+  public void update(String title, SubjectNames subjectName, String content, String imageRef) {
     if (this.isSolved) { // 문제 해결여부 확인
       throw new IllegalStateException("이미 해결된 질문은 수정할 수 없습니다.");
     }
@@ -84,7 +96,7 @@ public class Question extends BaseEntity implements OwnedResource {
     if (title != null) this.title = title;
     if (subjectName != null) this.subjectName = subjectName;
     if (content != null) this.content = content;
-    if (image != null) this.image = image;
+    if (imageRef != null) this.imageRef = imageRef;
   }
 
   /**
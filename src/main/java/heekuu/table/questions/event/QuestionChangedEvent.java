@@ -0,0 +1,33 @@
+package heekuu.table.questions.event;
+
+import heekuu.table.questions.entity.Question;
+import heekuu.table.questions.type.SubjectNames;
+
+/**
+ * 질문이 생성, 수정, 삭제되었음을 알리는 도메인 이벤트 (커밋 이후 처리)
+ *
+ * @param questionId          변경된 질문 ID
+ * @param subjectName         변경 후 과목 (삭제면 삭제 전 과목)
+ * @param previousSubjectName 변경 전 과목, 생성이면 null
+ * @param created             생성 여부
+ * @param deleted             삭제 여부
+ */
+public record QuestionChangedEvent(Long questionId, SubjectNames subjectName,
+                                   SubjectNames previousSubjectName, boolean created,
+                                   boolean deleted) {
+
+  public static QuestionChangedEvent created(Question question) {
+    return new QuestionChangedEvent(question.getQuestionId(), question.getSubjectName(), null,
+        true, false);
+  }
+
+  public static QuestionChangedEvent updated(Question question, SubjectNames previousSubjectName) {
+    return new QuestionChangedEvent(question.getQuestionId(), question.getSubjectName(),
+        previousSubjectName, false, false);
+  }
+
+  public static QuestionChangedEvent deleted(Question question) {
+    return new QuestionChangedEvent(question.getQuestionId(), question.getSubjectName(),
+        question.getSubjectName(), false, true);
+  }
+}
@@ -1,10 +1,17 @@
 package heekuu.table.questions.repository;
 
+import heekuu.table.questions.dto.QuestionSummary;
 import heekuu.table.questions.entity.Question;
 import heekuu.table.questions.type.SubjectNames;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     int countByUser_UserId(Long userId);
@@ -21,4 +28,74 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     // 해결 상태에 따른 질문 개수
     int countByUser_UserIdAndIsSolvedTrue(Long userId);
     int countByUser_UserIdAndIsSolvedFalse(Long userId);
+
+    // 목록 조회용 projection (q.user.userId 는 외래키 컬럼이라 users 조인 없이 조회)
+    String SUMMARY_SELECT = "SELECT new heekuu.table.questions.dto.QuestionSummary("
+        + "q.questionId, q.user.userId, q.subjectName, q.title, q.content, q.imageRef, "
+        + "q.isSolved, q.createdAt, q.updatedAt) FROM Question q";
+
+    @Query(value = SUMMARY_SELECT,
+        countQuery = "SELECT COUNT(q) FROM Question q")
+    Page<QuestionSummary> findSummaries(Pageable pageable);
+
+    // 순서는 보장하지 않음, 호출한 쪽에서 ID 순서대로 정렬
+    @Query(SUMMARY_SELECT + " WHERE q.questionId IN :questionIds")
+    List<QuestionSummary> findSummariesByQuestionIdIn(@Param("questionIds") Collection<Long> questionIds);
+
+    @Query("SELECT q.subjectName FROM Question q WHERE q.questionId = :questionId")
+    Optional<SubjectNames> findSubjectNameByQuestionId(@Param("questionId") Long questionId);
+
+    @Query(value = SUMMARY_SELECT + " WHERE q.subjectName = :subjectName",
+        countQuery = "SELECT COUNT(q) FROM Question q WHERE q.subjectName = :subjectName")
+    Page<QuestionSummary> findSummariesBySubjectName(@Param("subjectName") SubjectNames subjectName,
+        Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " WHERE q.user.userId = :userId",
+        countQuery = "SELECT COUNT(q) FROM Question q WHERE q.user.userId = :userId")
+    Page<QuestionSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT
+        + " WHERE q.user.userId = :userId AND q.subjectName = :subjectName",
+        countQuery = "SELECT COUNT(q) FROM Question q "
+            + "WHERE q.user.userId = :userId AND q.subjectName = :subjectName")
+    Page<QuestionSummary> findSummariesByUserIdAndSubjectName(@Param("userId") Long userId,
+        @Param("subjectName") SubjectNames subjectName, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " WHERE q.user.userId = :userId AND q.isSolved = :isSolved",
+        countQuery = "SELECT COUNT(q) FROM Question q "
+            + "WHERE q.user.userId = :userId AND q.isSolved = :isSolved")
+    Page<QuestionSummary> findSummariesByUserIdAndIsSolved(@Param("userId") Long userId,
+        @Param("isSolved") boolean isSolved, Pageable pageable);
+
+    /*
+     * keyset(커서) 피드: (createdAt, questionId) < 커서 위치를 튜플 비교로 찾아 인덱스 범위만 읽는다.
+     * 페이지 크기는 Pageable 의 size 로만 제한하고, 정렬은 쿼리에 고정한다 (COUNT 쿼리 없음).
+     */
+    String KEYSET_AFTER = "(q.createdAt, q.questionId) < (:createdAt, :questionId)";
+    String KEYSET_ORDER = " ORDER BY q.createdAt DESC, q.questionId DESC";
+
+    @Query(SUMMARY_SELECT + " WHERE " + KEYSET_AFTER + KEYSET_ORDER)
+    List<QuestionSummary> findFeed(@Param("createdAt") LocalDateTime createdAt,
+        @Param("questionId") Long questionId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.subjectName = :subjectName AND " + KEYSET_AFTER
+        + KEYSET_ORDER)
+    List<QuestionSummary> findFeedBySubjectName(@Param("subjectName") SubjectNames subjectName,
+        @Param("createdAt") LocalDateTime createdAt, @Param("questionId") Long questionId,
+        Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.user.userId = :userId AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<QuestionSummary> findFeedByUserId(@Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("questionId") Long questionId,
+        Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE q.user.userId = :userId AND q.isSolved = :isSolved AND "
+        + KEYSET_AFTER + KEYSET_ORDER)
+    List<QuestionSummary> findFeedByUserIdAndIsSolved(@Param("userId") Long userId,
+        @Param("isSolved") boolean isSolved, @Param("createdAt") LocalDateTime createdAt,
+        @Param("questionId") Long questionId, Pageable pageable);
+
+    // 대략적인 전체 개수 계산용
+    long countBySubjectName(SubjectNames subjectName);
+    long countByUser_UserIdAndIsSolved(Long userId, boolean isSolved);
 }
@@ -0,0 +1,27 @@
+package heekuu.table.questions.service;
+
+import heekuu.table.common.util.TtlCache;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서 피드의 대략적인 전체 개수 캐시
+ *
+ * 페이지마다 COUNT(*) 를 실행하지 않도록 피드별 개수를 TTL 동안 재사용한다.
+ * 정확한 값이 아니어도 되는 화면 표시용으로만 사용한다.
+ */
+@Component
+public class QuestionCountCache {
+
+  private final TtlCache<String, Long> counts;
+
+  public QuestionCountCache(@Value("${questions.approximate-total.ttl-ms:60000}") long ttlMillis,
+      @Value("${questions.approximate-total.max-size:10000}") int maxSize) {
+    this.counts = new TtlCache<>(ttlMillis, maxSize);
+  }
+
+  public long get(String feedKey, LongSupplier counter) {
+    return counts.getOrLoad(feedKey, counter::getAsLong);
+  }
+}
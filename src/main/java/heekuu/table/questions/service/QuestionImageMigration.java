@@ -0,0 +1,123 @@
+package heekuu.table.questions.service;
+
+import heekuu.table.common.media.MediaStore;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+/**
+ * question.image BLOB 을 MediaStore 로 옮기고 image_ref 만 남기는 일회성 이전 작업
+ *
+ * media.migration.enabled=true 일 때 기동 후 별도 스레드에서 실행된다. question_id 순서로
+ * 배치 단위 ID 만 먼저 읽고, BLOB 은 한 행씩 스트림으로 저장소에 복사하므로 힙에 배치 전체를 올리지 않는다.
+ * 행 갱신은 image_ref 가 비어 있을 때만 하므로 여러 노드에서 실행되거나 중간에 멈춰도 다시 실행하면 된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "media.migration.enabled", havingValue = "true")
+public class QuestionImageMigration implements ApplicationRunner {
+
+  private static final String IMAGE_DIRECTORY = "questions";
+  private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final MediaStore mediaStore;
+  private final int batchSize;
+  private final long pauseMillis;
+
+  public QuestionImageMigration(JdbcTemplate jdbcTemplate, MediaStore mediaStore,
+      @Value("${media.migration.batch-size:50}") int batchSize,
+      @Value("${media.migration.pause-ms:100}") long pauseMillis) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.mediaStore = mediaStore;
+    this.batchSize = batchSize;
+    this.pauseMillis = pauseMillis;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Thread worker = new Thread(this::migrate, "question-image-migration");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  void migrate() {
+    long lastId = 0;
+    long migrated = 0;
+    long failed = 0;
+
+    while (!Thread.currentThread().isInterrupted()) {
+      List<Long> ids = jdbcTemplate.queryForList(
+          "SELECT question_id FROM question WHERE question_id > ? AND image IS NOT NULL "
+              + "AND image_ref IS NULL ORDER BY question_id LIMIT ?",
+          Long.class, lastId, batchSize);
+      if (ids.isEmpty()) {
+        break;
+      }
+
+      for (Long questionId : ids) {
+        lastId = questionId;
+        try {
+          if (migrateOne(questionId)) {
+            migrated++;
+          }
+        } catch (RuntimeException e) {
+          // 실패한 행은 건너뛰고, 다음 실행 때 다시 시도
+          failed++;
+          log.warn("질문 이미지 이전 실패: 질문 ID {}", questionId, e);
+        }
+      }
+      log.info("질문 이미지 이전 진행: 이전 {}건, 실패 {}건, 마지막 ID {}", migrated, failed, lastId);
+
+      try {
+        Thread.sleep(pauseMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    log.info("질문 이미지 이전 완료: 이전 {}건, 실패 {}건", migrated, failed);
+  }
+
+  private boolean migrateOne(Long questionId) {
+    String imageRef = jdbcTemplate.query(
+        "SELECT image, OCTET_LENGTH(image) FROM question WHERE question_id = ? AND image IS NOT NULL",
+        (ResultSetExtractor<String>) rs -> {
+          if (!rs.next()) {
+            return null;
+          }
+          long size = rs.getLong(2);
+          try (InputStream content = new BufferedInputStream(rs.getBinaryStream(1))) {
+            String contentType = URLConnection.guessContentTypeFromStream(content);
+            return mediaStore.save(IMAGE_DIRECTORY, content, size,
+                contentType != null ? contentType : DEFAULT_CONTENT_TYPE);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        questionId);
+    if (imageRef == null) {
+      return false;
+    }
+
+    int updated = jdbcTemplate.update(
+        "UPDATE question SET image_ref = ?, image = NULL WHERE question_id = ? AND image_ref IS NULL",
+        imageRef, questionId);
+    if (updated == 0) {
+      // 다른 노드가 먼저 이전했으면 방금 저장한 사본 삭제
+      mediaStore.delete(imageRef);
+      return false;
+    }
+    return true;
+  }
+}
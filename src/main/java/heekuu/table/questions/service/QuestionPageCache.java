@@ -0,0 +1,203 @@
+package heekuu.table.questions.service;
+
+import heekuu.table.common.event.ClusterEventBus;
+import heekuu.table.questions.dto.GetQuestionResponseDto;
+import heekuu.table.questions.event.QuestionChangedEvent;
+import heekuu.table.questions.type.SubjectNames;
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * /questions/all 과 /questions/subject/{subjectName} 의 앞쪽 페이지 노드 로컬 캐시
+ *
+ * 기본 정렬(createdAt DESC)의 max-pages 페이지까지만, 전체 피드와 과목별로 묶어서 캐시한다.
+ * - 같은 키의 동시 미스는 하나의 조회로 합쳐진다.
+ * - 질문 생성/삭제는 해당 과목과 전체 피드를 비우고, 수정/채택은 그 질문이 들어 있는 페이지만 비운다.
+ * - 무효화는 커밋 이후 ClusterEventBus 로 모든 노드에 전파되고, 조회 도중 무효화가 일어나면
+ *   그 조회 결과는 캐시하지 않는다. 전파가 유실되더라도 TTL 이 지나면 다시 조회된다.
+ */
+@Slf4j
+@Component
+public class QuestionPageCache {
+
+  static final String INVALIDATION_CHANNEL = "question-page-invalidation";
+  private static final String ALL_GROUP = "ALL";
+  private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+  private final ClusterEventBus clusterEventBus;
+  private final long ttlMillis;
+  private final int maxPages;
+  private final int maxPageSize;
+
+  private final Map<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+  private final Map<PageKey, CompletableFuture<Page<GetQuestionResponseDto>>> loading =
+      new ConcurrentHashMap<>();
+  // 그룹별 세대 값, 조회 도중 무효화가 일어나면 결과를 캐시에 넣지 않음
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  public QuestionPageCache(ClusterEventBus clusterEventBus,
+      @Value("${questions.page-cache.ttl-ms:30000}") long ttlMillis,
+      @Value("${questions.page-cache.max-pages:2}") int maxPages,
+      @Value("${questions.page-cache.max-page-size:50}") int maxPageSize) {
+    this.clusterEventBus = clusterEventBus;
+    this.ttlMillis = ttlMillis;
+    this.maxPages = maxPages;
+    this.maxPageSize = maxPageSize;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    clusterEventBus.subscribe(INVALIDATION_CHANNEL, this::onInvalidation);
+  }
+
+  /**
+   * 캐시 대상 페이지면 캐시에서, 아니면 loader 로 바로 조회합니다.
+   *
+   * @param subjectName 과목, 전체 피드면 null
+   * @param pageable    페이지 요청
+   * @param loader      캐시 미스일 때 실행할 조회
+   */
+  public Page<GetQuestionResponseDto> get(SubjectNames subjectName, Pageable pageable,
+      Supplier<Page<GetQuestionResponseDto>> loader) {
+    if (!isCacheable(pageable)) {
+      return loader.get();
+    }
+
+    PageKey key = new PageKey(group(subjectName), pageable.getPageNumber(), pageable.getPageSize());
+    CachedPage cached = pages.get(key);
+    if (cached != null && !cached.isExpired()) {
+      return cached.page();
+    }
+
+    CompletableFuture<Page<GetQuestionResponseDto>> flight = new CompletableFuture<>();
+    CompletableFuture<Page<GetQuestionResponseDto>> existing = loading.putIfAbsent(key, flight);
+    if (existing != null) {
+      return await(existing);
+    }
+
+    try {
+      long observedGeneration = generation(key.group()).get();
+      Page<GetQuestionResponseDto> page = loader.get();
+      if (generation(key.group()).get() == observedGeneration) {
+        pages.put(key, new CachedPage(page, questionIds(page),
+            System.currentTimeMillis() + ttlMillis));
+      }
+      flight.complete(page);
+      return page;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      loading.remove(key, flight);
+    }
+  }
+
+  /**
+   * 질문 변경을 모든 노드의 캐시에 전파합니다. (커밋 이후 호출)
+   *
+   * 메시지 형식: G|그룹,... (그룹 전체 무효화) 또는 Q|질문ID|그룹,... (질문이 포함된 페이지만 무효화)
+   */
+  public void publishQuestionChanged(QuestionChangedEvent event) {
+    Set<String> subjectGroups = new LinkedHashSet<>();
+    if (event.subjectName() != null) {
+      subjectGroups.add(group(event.subjectName()));
+    }
+    boolean subjectChanged = event.previousSubjectName() != null
+        && event.previousSubjectName() != event.subjectName();
+    if (subjectChanged) {
+      subjectGroups.add(group(event.previousSubjectName()));
+    }
+
+    if (event.created() || event.deleted()) {
+      // 목록 위치와 전체 개수가 바뀜
+      subjectGroups.add(ALL_GROUP);
+      clusterEventBus.publish(INVALIDATION_CHANNEL, "G|" + String.join(",", subjectGroups));
+    } else if (subjectChanged) {
+      // 과목별 목록의 구성이 바뀌므로 두 과목은 전체, 전체 피드는 포함된 페이지만
+      clusterEventBus.publish(INVALIDATION_CHANNEL, "G|" + String.join(",", subjectGroups));
+      clusterEventBus.publish(INVALIDATION_CHANNEL, "Q|" + event.questionId() + "|" + ALL_GROUP);
+    } else {
+      subjectGroups.add(ALL_GROUP);
+      clusterEventBus.publish(INVALIDATION_CHANNEL,
+          "Q|" + event.questionId() + "|" + String.join(",", subjectGroups));
+    }
+  }
+
+  private void onInvalidation(String message) {
+    String[] parts = message.split("\\|");
+    if ("G".equals(parts[0]) && parts.length == 2) {
+      for (String group : parts[1].split(",")) {
+        generation(group).incrementAndGet();
+        pages.keySet().removeIf(key -> key.group().equals(group));
+      }
+    } else if ("Q".equals(parts[0]) && parts.length == 3) {
+      Long questionId = Long.valueOf(parts[1]);
+      for (String group : parts[2].split(",")) {
+        // 수정은 정렬 위치를 바꾸지 않으므로 그 질문이 있는 페이지만 제거
+        generation(group).incrementAndGet();
+        pages.entrySet().removeIf(entry -> entry.getKey().group().equals(group)
+            && entry.getValue().questionIds().contains(questionId));
+      }
+    }
+    log.debug("질문 페이지 캐시 무효화: {}", message);
+  }
+
+  private boolean isCacheable(Pageable pageable) {
+    return pageable.isPaged()
+        && pageable.getPageNumber() < maxPages
+        && pageable.getPageSize() <= maxPageSize
+        && DEFAULT_SORT.equals(pageable.getSort());
+  }
+
+  private Page<GetQuestionResponseDto> await(
+      CompletableFuture<Page<GetQuestionResponseDto>> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private AtomicLong generation(String group) {
+    return generations.computeIfAbsent(group, g -> new AtomicLong());
+  }
+
+  private String group(SubjectNames subjectName) {
+    return subjectName != null ? subjectName.name() : ALL_GROUP;
+  }
+
+  private Set<Long> questionIds(Page<GetQuestionResponseDto> page) {
+    return page.getContent().stream()
+        .map(GetQuestionResponseDto::getQuestionId)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  private record PageKey(String group, int pageNumber, int pageSize) {
+
+  }
+
+  private record CachedPage(Page<GetQuestionResponseDto> page, Set<Long> questionIds,
+                            long expiresAt) {
+
+    boolean isExpired() {
+      return expiresAt <= System.currentTimeMillis();
+    }
+  }
+}
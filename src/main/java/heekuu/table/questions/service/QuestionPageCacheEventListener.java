@@ -0,0 +1,23 @@
+package heekuu.table.questions.service;
+
+import heekuu.table.questions.event.QuestionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 질문 변경 이벤트를 커밋 이후 질문 페이지 캐시 무효화로 연결
+ * (트랜잭션 밖에서 발행된 이벤트는 즉시 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionPageCacheEventListener {
+
+  private final QuestionPageCache questionPageCache;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onQuestionChanged(QuestionChangedEvent event) {
+    questionPageCache.publishQuestionChanged(event);
+  }
+}
@@ -1,5 +1,6 @@
 package heekuu.table.questions.service;
 
+import heekuu.table.questions.dto.CursorPageResponse;
 import heekuu.table.questions.dto.GetQuestionResponseDto;
 import heekuu.table.questions.dto.QuestionRequest;
 import heekuu.table.questions.dto.UpdateQuestionRequest;
@@ -21,4 +22,9 @@ public interface QuestionService {
   Page<GetQuestionResponseDto> getAllQuestions(Pageable pageable);
   Page<GetQuestionResponseDto> getAllQuestionsBySubject(SubjectNames subject, Pageable pageable);
   Page<GetQuestionResponseDto> getUserQuestionsBySubject(Long userId, SubjectNames subject, Pageable pageable);
+
+  // 커서 기반 피드
+  CursorPageResponse<GetQuestionResponseDto> getQuestionFeed(String cursor, int size, boolean withTotal);
+  CursorPageResponse<GetQuestionResponseDto> getQuestionFeedBySubject(SubjectNames subject, String cursor, int size, boolean withTotal);
+  CursorPageResponse<GetQuestionResponseDto> getUserQuestionFeed(Long userId, Boolean isSolved, String cursor, int size, boolean withTotal);
 }
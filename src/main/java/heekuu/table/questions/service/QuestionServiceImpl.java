@@ -1,28 +1,42 @@
 package heekuu.table.questions.service;
 
+import heekuu.table.answer.event.AnswerChangedEvent;
+import heekuu.table.answer.repository.AnswerRepository;
+import heekuu.table.common.media.MediaStore;
 import heekuu.table.common.permission.PermissionValidator;
 import heekuu.table.common.util.ImageUtil;
 import heekuu.table.common.util.SecurityUtil;
+import heekuu.table.common.util.TransactionUtil;
 import heekuu.table.forbidden.service.ForbiddenService;
+import heekuu.table.questions.dto.CursorPageResponse;
 import heekuu.table.questions.dto.GetQuestionResponseDto;
+import heekuu.table.questions.dto.QuestionCursor;
 import heekuu.table.questions.dto.QuestionRequest;
+import heekuu.table.questions.dto.QuestionSummary;
 import heekuu.table.questions.dto.UpdateQuestionRequest;
 import heekuu.table.questions.dto.UpdateQuestionResponse;
 import heekuu.table.questions.entity.Question;
+import heekuu.table.questions.event.QuestionChangedEvent;
 import heekuu.table.questions.repository.QuestionRepository;
 import heekuu.table.questions.type.SubjectNames;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,11 +44,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class QuestionServiceImpl implements QuestionService {
 
   private final QuestionRepository questionRepository;
+  private final AnswerRepository answerRepository;
   private final UserRepository userRepository;
   private final SecurityUtil securityUtil;
   private final ImageUtil imageUtil;
   private final PermissionValidator permissionValidator;
   private final ForbiddenService forbiddenService;
+  private final MediaStore mediaStore;
+  private final QuestionCountCache questionCountCache;
+  private final QuestionPageCache questionPageCache;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private static final String IMAGE_DIRECTORY = "questions";
+  private static final int MAX_FEED_SIZE = 100;
 
   /**
    * 새로운 질문을 저장합니다.
@@ -57,22 +79,23 @@ public class QuestionServiceImpl implements QuestionService {
           return new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId);
         });
 
-    // 이미지가 포함된 경우 이미지 바이트 처리
-    byte[] imageBytes = null;
+    // 이미지가 포함된 경우 미디어 저장소에 저장하고 참조만 엔티티에 보관
+    String imageRef = null;
     if (request.getImage() != null && !request.getImage().isEmpty()) {
       try {
-        imageBytes = request.getImage().getBytes();
-        log.debug("Image processed successfully. Size: {} bytes", imageBytes.length);
+        imageRef = storeImage(request.getImage());
+        log.debug("Image stored successfully. Ref: {}", imageRef);
       } catch (IOException e) {
         log.error("Error processing image", e);
         throw new IOException("이미지 처리 중 오류가 발생했습니다", e);
       }
     }
     // 요청을 바탕으로 Question 엔티티 생성
-    Question question = request.toEntity(request, user, imageBytes);
+    Question question = request.toEntity(request, user, imageRef);
     // 생성된 질문 저장 및 반환
     try {
       Question savedQuestion = questionRepository.save(question);
+      eventPublisher.publishEvent(QuestionChangedEvent.created(savedQuestion));
       log.debug("Question saved successfully. ID: {}", savedQuestion.getQuestionId());
       return savedQuestion;
     } catch (Exception e) {
@@ -89,20 +112,20 @@ public class QuestionServiceImpl implements QuestionService {
    * @return 조회한 질문 목록을 반환합니다.
    */
   public Page<GetQuestionResponseDto> getQuestionList(Long userId, Pageable pageable) {
-    Page<Question> questions = questionRepository.findAllByUser_UserId(userId, pageable);
-    return questions.map(GetQuestionResponseDto::fromEntity);
+    return questionRepository.findSummariesByUserId(userId, pageable).map(this::toResponse);
   }
 
   @Override
   public Page<GetQuestionResponseDto> getQuestionListBySubject(Long userId,
       SubjectNames subjectNames, Pageable pageable) {
-    return null;
+    return getUserQuestionsBySubject(userId, subjectNames, pageable);
   }
 
   @Override
   public Page<GetQuestionResponseDto> getQuestionsBySolvedStatus(Long userId, Boolean isSolved,
       Pageable pageable) {
-    return null;
+    return questionRepository.findSummariesByUserIdAndIsSolved(userId, isSolved, pageable)
+        .map(this::toResponse);
   }
 
   /**
@@ -119,9 +142,8 @@ public class QuestionServiceImpl implements QuestionService {
       SubjectNames subjectNames,
       Pageable pageable
   ) {
-    Page<Question> questions = questionRepository.findAllByUser_UserIdAndSubjectName(userId,
-        subjectNames, pageable);
-    return questions.map(GetQuestionResponseDto::fromEntity);
+    return questionRepository.findSummariesByUserIdAndSubjectName(userId, subjectNames, pageable)
+        .map(this::toResponse);
   }
 
   /**
@@ -131,8 +153,9 @@ public class QuestionServiceImpl implements QuestionService {
    * @return 조회한 전체 질문 목록을 반환합니다.
    */
   public Page<GetQuestionResponseDto> getAllQuestions(Pageable pageable) {
-    Page<Question> questions = questionRepository.findAll(pageable);
-    return questions.map(GetQuestionResponseDto::fromEntity);
+    // 앞쪽 페이지는 캐시에서 응답 (질문 변경 시 커밋 이후 무효화)
+    return questionPageCache.get(null, pageable,
+        () -> questionRepository.findSummaries(pageable).map(this::toResponse));
   }
 
   /**
@@ -146,8 +169,64 @@ public class QuestionServiceImpl implements QuestionService {
       SubjectNames subjectNames,
       Pageable pageable
   ) {
-    Page<Question> questions = questionRepository.findAllBySubjectName(subjectNames, pageable);
-    return questions.map(GetQuestionResponseDto::fromEntity);
+    return questionPageCache.get(subjectNames, pageable,
+        () -> questionRepository.findSummariesBySubjectName(subjectNames, pageable)
+            .map(this::toResponse));
+  }
+
+  /**
+   * 전체 질문 피드를 커서 기준으로 조회합니다. 페이지 깊이와 관계없이 인덱스 범위만 읽습니다.
+   *
+   * @param cursor    이전 페이지의 nextCursor, 첫 페이지면 null
+   * @param size      페이지 크기
+   * @param withTotal 대략적인 전체 개수 포함 여부
+   * @return 질문 목록과 다음 페이지 커서
+   */
+  @Override
+  public CursorPageResponse<GetQuestionResponseDto> getQuestionFeed(String cursor, int size,
+      boolean withTotal) {
+    QuestionCursor position = QuestionCursor.decode(cursor);
+    int limit = clampFeedSize(size);
+    List<QuestionSummary> rows = questionRepository.findFeed(position.createdAt(),
+        position.questionId(), PageRequest.of(0, limit + 1));
+    return toCursorPage(rows, limit,
+        withTotal ? () -> questionCountCache.get("all", questionRepository::count) : null);
+  }
+
+  @Override
+  public CursorPageResponse<GetQuestionResponseDto> getQuestionFeedBySubject(
+      SubjectNames subject, String cursor, int size, boolean withTotal) {
+    QuestionCursor position = QuestionCursor.decode(cursor);
+    int limit = clampFeedSize(size);
+    List<QuestionSummary> rows = questionRepository.findFeedBySubjectName(subject,
+        position.createdAt(), position.questionId(), PageRequest.of(0, limit + 1));
+    return toCursorPage(rows, limit, withTotal ? () -> questionCountCache.get(
+        "subject:" + subject, () -> questionRepository.countBySubjectName(subject)) : null);
+  }
+
+  /**
+   * 사용자가 등록한 질문 피드를 커서 기준으로 조회합니다.
+   *
+   * @param isSolved 해결 상태 필터, null 이면 전체
+   */
+  @Override
+  public CursorPageResponse<GetQuestionResponseDto> getUserQuestionFeed(Long userId,
+      Boolean isSolved, String cursor, int size, boolean withTotal) {
+    QuestionCursor position = QuestionCursor.decode(cursor);
+    int limit = clampFeedSize(size);
+    PageRequest page = PageRequest.of(0, limit + 1);
+
+    if (isSolved == null) {
+      List<QuestionSummary> rows = questionRepository.findFeedByUserId(userId,
+          position.createdAt(), position.questionId(), page);
+      return toCursorPage(rows, limit, withTotal ? () -> questionCountCache.get(
+          "user:" + userId, () -> questionRepository.countByUser_UserId(userId)) : null);
+    }
+    List<QuestionSummary> rows = questionRepository.findFeedByUserIdAndIsSolved(userId, isSolved,
+        position.createdAt(), position.questionId(), page);
+    return toCursorPage(rows, limit, withTotal ? () -> questionCountCache.get(
+        "user:" + userId + ":" + isSolved,
+        () -> questionRepository.countByUser_UserIdAndIsSolved(userId, isSolved)) : null);
   }
 
   /**
@@ -172,19 +251,38 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     request.validate();
-    byte[] imageBytes = imageUtil.convertToBytes(request.getImage());
+    if (question.isSolved()) {
+      throw new IllegalStateException("이미 해결된 질문은 수정할 수 없습니다.");
+    }
+
+    String previousImageRef = question.getImageRef();
+    SubjectNames previousSubjectName = question.getSubjectName();
+    String imageRef = null;
+    if (request.getImage() != null && !request.getImage().isEmpty()) {
+      try {
+        imageRef = storeImage(request.getImage());
+      } catch (IOException e) {
+        throw new RuntimeException("이미지 처리 중 오류가 발생했습니다.", e);
+      }
+    }
 
     try {
       question.update(
           request.getTitle(),
           request.getSubjectName(),
           request.getContent(),
-          imageBytes
+          imageRef
       );
     } catch (IllegalStateException e) {
       throw new IllegalStateException("이미 해결된 질문은 수정할 수 없습니다.");
     }
-    return UpdateQuestionResponse.fromEntity(question);
+
+    // 이미지를 교체했으면 이전 이미지는 커밋 이후 삭제
+    if (imageRef != null && previousImageRef != null) {
+      TransactionUtil.runAfterCommit(() -> mediaStore.delete(previousImageRef));
+    }
+    eventPublisher.publishEvent(QuestionChangedEvent.updated(question, previousSubjectName));
+    return UpdateQuestionResponse.fromEntity(question, mediaStore.urlOf(question.getImageRef()));
   }
 
   /**
@@ -197,6 +295,54 @@ public class QuestionServiceImpl implements QuestionService {
         .orElseThrow(() -> new EntityNotFoundException("질문을 찾을 수 없습니다."));
 
     permissionValidator.validateDeletePermission(question);
+    // 답변은 cascade 로 함께 삭제되므로, 답변별 정리(좋아요 집합 등)를 위해 삭제 전에 ID 를 모아 둠
+    List<Long> answerIds = answerRepository.findAnswerIdsByQuestionId(questionId);
     questionRepository.delete(question);
+    eventPublisher.publishEvent(QuestionChangedEvent.deleted(question));
+    for (Long answerId : answerIds) {
+      eventPublisher.publishEvent(new AnswerChangedEvent(answerId, questionId, false, true));
+    }
+
+    String imageRef = question.getImageRef();
+    if (imageRef != null) {
+      TransactionUtil.runAfterCommit(() -> mediaStore.delete(imageRef));
+    }
+  }
+
+  /**
+   * 이미지를 검증한 뒤 미디어 저장소에 스트림으로 저장합니다.
+   * 트랜잭션이 롤백되면 저장한 이미지를 다시 삭제합니다.
+   */
+  private String storeImage(MultipartFile image) throws IOException {
+    imageUtil.validateImage(image);
+    String imageRef;
+    try (InputStream content = image.getInputStream()) {
+      imageRef = mediaStore.save(IMAGE_DIRECTORY, content, image.getSize(),
+          image.getContentType());
+    }
+    TransactionUtil.runAfterRollback(() -> mediaStore.delete(imageRef));
+    return imageRef;
+  }
+
+  private int clampFeedSize(int size) {
+    return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+  }
+
+  // size + 1 건을 조회해서 다음 페이지 존재 여부를 COUNT 없이 판단
+  private CursorPageResponse<GetQuestionResponseDto> toCursorPage(List<QuestionSummary> rows,
+      int limit, LongSupplier total) {
+    boolean hasNext = rows.size() > limit;
+    List<QuestionSummary> pageRows = hasNext ? rows.subList(0, limit) : rows;
+    String nextCursor = hasNext
+        ? QuestionCursor.after(pageRows.get(pageRows.size() - 1)).encode() : null;
+    return new CursorPageResponse<>(
+        pageRows.stream().map(this::toResponse).toList(),
+        nextCursor,
+        hasNext,
+        total != null ? total.getAsLong() : null);
+  }
+
+  private GetQuestionResponseDto toResponse(QuestionSummary summary) {
+    return GetQuestionResponseDto.fromSummary(summary, mediaStore.urlOf(summary.imageRef()));
   }
 }
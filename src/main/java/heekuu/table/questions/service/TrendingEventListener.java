@@ -0,0 +1,48 @@
+package heekuu.table.questions.service;
+
+import heekuu.table.answer.event.AnswerChangedEvent;
+import heekuu.table.answer.event.AnswerLikedEvent;
+import heekuu.table.questions.event.QuestionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 질문/답변/좋아요 도메인 이벤트를 커밋 이후 인기 질문 점수로 연결
+ * (트랜잭션 밖에서 발행된 이벤트는 즉시 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingEventListener {
+
+  private final TrendingQuestionService trendingQuestionService;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onQuestionChanged(QuestionChangedEvent event) {
+    if (event.deleted()) {
+      trendingQuestionService.onQuestionDeleted(event.questionId(), event.subjectName());
+    } else if (event.created()) {
+      trendingQuestionService.onQuestionCreated(event.questionId(), event.subjectName());
+    } else if (event.previousSubjectName() != null
+        && event.previousSubjectName() != event.subjectName()) {
+      trendingQuestionService.onQuestionSubjectChanged(event.questionId(),
+          event.previousSubjectName(), event.subjectName());
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onAnswerChanged(AnswerChangedEvent event) {
+    if (event.created()) {
+      trendingQuestionService.onAnswerCreated(event.questionId());
+    } else if (event.deleted()) {
+      trendingQuestionService.onAnswerDeleted(event.answerId());
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onAnswerLiked(AnswerLikedEvent event) {
+    trendingQuestionService.onAnswerLiked(event.answerId(), event.questionId(), event.userId(),
+        event.delta());
+  }
+}
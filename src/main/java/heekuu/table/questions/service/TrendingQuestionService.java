@@ -0,0 +1,316 @@
+package heekuu.table.questions.service;
+
+import heekuu.table.common.media.MediaStore;
+import heekuu.table.common.util.RedisLock;
+import heekuu.table.questions.dto.GetQuestionResponseDto;
+import heekuu.table.questions.dto.QuestionSummary;
+import heekuu.table.questions.repository.QuestionRepository;
+import heekuu.table.questions.type.SubjectNames;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 최근 활동 기준 인기 질문 순위 (forward decay)
+ *
+ * 질문 생성, 답변 등록, 답변 좋아요가 일어날 때마다 weight * e^(λ(t - L)) 를 질문 점수에 더한다.
+ * L 은 Redis 에 저장된 기준 시각이므로 최근 활동일수록 큰 값이 더해지고, 오래된 점수를 다시 계산하지
+ * 않아도 순서가 시간 감쇠를 반영한다. 점수가 커지는 것을 막기 위해 주기적으로 모든 점수에
+ * e^(-λ(now - L)) 를 곱하고 L 을 현재로 옮긴다.
+ *
+ * 전체와 과목별 ZSET 은 상위 top-k 개만 유지하므로 조회는 O(K) 이다.
+ *
+ * 좋아요는 (답변, 사용자)마다 누른 시각을 기록해 두고, 취소 시 그 시각의 기여분
+ * weight * e^(λ(t_like - L)) 만큼 정확히 뺀다 (재조정 후에도 같은 식이 현재 점수 단위의 기여분이다).
+ * 좋아요/취소를 반복해도 마지막 상태의 좋아요 하나만 점수에 남는다.
+ */
+@Slf4j
+@Service
+public class TrendingQuestionService {
+
+  private static final String KEY_PREFIX = "TRENDING:";
+  private static final String LANDMARK_KEY = KEY_PREFIX + "LANDMARK";
+  private static final String ALL_KEY = KEY_PREFIX + "ALL";
+  private static final String LIKES_KEY_PREFIX = KEY_PREFIX + "LIKES:";
+  // 기록을 유지하는 반감기 배수, 이보다 오래된 좋아요의 기여는 1/1024 이하로 줄어 취소해도 무시
+  private static final int LIKE_RECORD_HALF_LIVES = 10;
+  private static final String LOCK_NAME = "trending-rescale";
+  private static final int MAX_PAGE_SIZE = 50;
+  // 재조정 후 이 값보다 작아진 (오래 활동이 없던) 질문은 순위에서 제거
+  private static final double MIN_SCORE = 0.01;
+
+  // 기준 시각을 읽고(없으면 현재로 설정) increment 를 KEYS[first..] 의 ZSET 에 더한 뒤 상위 keep 개만 유지
+  private static final String APPLY_INCREMENT =
+      "local landmark = tonumber(redis.call('GET', KEYS[1]))\n"
+          + "if not landmark then\n"
+          + "  landmark = now\n"
+          + "  redis.call('SET', KEYS[1], ARGV[3])\n"
+          + "end\n"
+          + "local increment = sign * weight * math.exp(lambda * (at - landmark))\n"
+          + "for i = first, #KEYS do\n"
+          + "  local score = tonumber(redis.call('ZINCRBY', KEYS[i], increment, member))\n"
+          + "  if score <= 0 then\n"
+          + "    redis.call('ZREM', KEYS[i], member)\n"
+          + "  elseif redis.call('ZCARD', KEYS[i]) > keep then\n"
+          + "    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -keep - 1)\n"
+          + "  end\n"
+          + "end\n"
+          + "return 1\n";
+
+  // KEYS[1]=기준 시각, KEYS[2..]=ZSET / ARGV[1]=질문 ID, ARGV[2]=가중치, ARGV[3]=현재(초), ARGV[4]=λ, ARGV[5]=유지 개수
+  private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+      "local member = ARGV[1]\n"
+          + "local weight = tonumber(ARGV[2])\n"
+          + "local now = tonumber(ARGV[3])\n"
+          + "local lambda = tonumber(ARGV[4])\n"
+          + "local keep = tonumber(ARGV[5])\n"
+          + "local at = now\n"
+          + "local sign = 1\n"
+          + "local first = 2\n"
+          + APPLY_INCREMENT,
+      Long.class);
+
+  // KEYS[1]=기준 시각, KEYS[2]=답변별 좋아요 시각 HASH, KEYS[3..]=ZSET / ARGV[1]=질문 ID, ARGV[2]=가중치,
+  // ARGV[3]=현재(초), ARGV[4]=λ, ARGV[5]=유지 개수, ARGV[6]=사용자 ID, ARGV[7]=1 좋아요 0 취소, ARGV[8]=기록 TTL(초)
+  // → 점수가 바뀌었으면 1
+  private static final RedisScript<Long> LIKE_SCRIPT = new DefaultRedisScript<>(
+      "local member = ARGV[1]\n"
+          + "local weight = tonumber(ARGV[2])\n"
+          + "local now = tonumber(ARGV[3])\n"
+          + "local lambda = tonumber(ARGV[4])\n"
+          + "local keep = tonumber(ARGV[5])\n"
+          + "local at = now\n"
+          + "local sign = 1\n"
+          + "local first = 3\n"
+          + "if ARGV[7] == '1' then\n"
+          // 이미 점수에 반영된 좋아요면 다시 더하지 않음
+          + "  if redis.call('HSETNX', KEYS[2], ARGV[6], ARGV[3]) == 0 then return 0 end\n"
+          + "  redis.call('EXPIRE', KEYS[2], ARGV[8])\n"
+          + "else\n"
+          // 기록이 만료된(충분히 감쇠된) 좋아요의 취소는 무시
+          + "  at = tonumber(redis.call('HGET', KEYS[2], ARGV[6]))\n"
+          + "  if not at then return 0 end\n"
+          + "  redis.call('HDEL', KEYS[2], ARGV[6])\n"
+          + "  sign = -1\n"
+          + "end\n"
+          + APPLY_INCREMENT,
+      Long.class);
+
+  // KEYS[1]=기준 시각, KEYS[2..]=ZSET / ARGV[1]=현재(초), ARGV[2]=λ, ARGV[3]=최소 점수
+  private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>(
+      "local landmark = tonumber(redis.call('GET', KEYS[1]))\n"
+          + "if not landmark then return 0 end\n"
+          + "local factor = math.exp(-tonumber(ARGV[2]) * (tonumber(ARGV[1]) - landmark))\n"
+          + "local minScore = tonumber(ARGV[3])\n"
+          + "for i = 2, #KEYS do\n"
+          + "  local entries = redis.call('ZRANGE', KEYS[i], 0, -1, 'WITHSCORES')\n"
+          + "  for j = 1, #entries, 2 do\n"
+          + "    local score = tonumber(entries[j + 1]) * factor\n"
+          + "    if score < minScore then\n"
+          + "      redis.call('ZREM', KEYS[i], entries[j])\n"
+          + "    else\n"
+          + "      redis.call('ZADD', KEYS[i], score, entries[j])\n"
+          + "    end\n"
+          + "  end\n"
+          + "end\n"
+          + "redis.call('SET', KEYS[1], ARGV[1])\n"
+          + "return 1\n",
+      Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final QuestionRepository questionRepository;
+  private final MediaStore mediaStore;
+  private final RedisLock redisLock;
+  private final double lambda;
+  private final int topK;
+  private final double questionWeight;
+  private final double answerWeight;
+  private final double likeWeight;
+  private final long likeRecordTtlSeconds;
+
+  public TrendingQuestionService(StringRedisTemplate stringRedisTemplate,
+      QuestionRepository questionRepository, MediaStore mediaStore, RedisLock redisLock,
+      @Value("${questions.trending.half-life-hours:6}") double halfLifeHours,
+      @Value("${questions.trending.top-k:200}") int topK,
+      @Value("${questions.trending.weight.question:1.0}") double questionWeight,
+      @Value("${questions.trending.weight.answer:3.0}") double answerWeight,
+      @Value("${questions.trending.weight.like:1.0}") double likeWeight) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.questionRepository = questionRepository;
+    this.mediaStore = mediaStore;
+    this.redisLock = redisLock;
+    this.lambda = Math.log(2) / (halfLifeHours * 3600);
+    this.topK = topK;
+    this.questionWeight = questionWeight;
+    this.answerWeight = answerWeight;
+    this.likeWeight = likeWeight;
+    this.likeRecordTtlSeconds = (long) Math.ceil(halfLifeHours * 3600 * LIKE_RECORD_HALF_LIVES);
+  }
+
+  public void onQuestionCreated(Long questionId, SubjectNames subjectName) {
+    increment(questionId, subjectName, questionWeight);
+  }
+
+  // 과목이 바뀌면 이전 과목 순위의 점수를 새 과목으로 옮김
+  public void onQuestionSubjectChanged(Long questionId, SubjectNames previous, SubjectNames current) {
+    try {
+      String member = questionId.toString();
+      Double score = stringRedisTemplate.opsForZSet().score(subjectKey(previous), member);
+      stringRedisTemplate.opsForZSet().remove(subjectKey(previous), member);
+      if (score != null) {
+        stringRedisTemplate.opsForZSet().add(subjectKey(current), member, score);
+      }
+    } catch (DataAccessException e) {
+      log.warn("인기 질문 과목 이동 실패: {}", e.getMessage());
+    }
+  }
+
+  public void onQuestionDeleted(Long questionId, SubjectNames subjectName) {
+    try {
+      String member = questionId.toString();
+      stringRedisTemplate.opsForZSet().remove(ALL_KEY, member);
+      if (subjectName != null) {
+        stringRedisTemplate.opsForZSet().remove(subjectKey(subjectName), member);
+      }
+    } catch (DataAccessException e) {
+      log.warn("인기 질문 제거 실패: {}", e.getMessage());
+    }
+  }
+
+  public void onAnswerCreated(Long questionId) {
+    subjectOf(questionId).ifPresent(subject -> increment(questionId, subject, answerWeight));
+  }
+
+  /**
+   * 좋아요는 누른 시각의 가중치를 더하고, 취소는 그 좋아요가 더한 만큼을 뺍니다.
+   *
+   * @param delta 좋아요면 양수, 취소면 음수
+   */
+  public void onAnswerLiked(Long answerId, Long questionId, Long userId, int delta) {
+    subjectOf(questionId).ifPresent(subject -> {
+      try {
+        stringRedisTemplate.execute(LIKE_SCRIPT,
+            List.of(LANDMARK_KEY, likesKey(answerId), ALL_KEY, subjectKey(subject)),
+            questionId.toString(), String.valueOf(likeWeight), String.valueOf(nowSeconds()),
+            String.valueOf(lambda), String.valueOf(topK), userId.toString(), delta > 0 ? "1" : "0",
+            String.valueOf(likeRecordTtlSeconds));
+      } catch (DataAccessException e) {
+        log.warn("인기 질문 좋아요 반영 실패: {}", e.getMessage());
+      }
+    });
+  }
+
+  // 삭제된 답변의 좋아요 시각 기록 제거 (남아도 TTL 로 만료)
+  public void onAnswerDeleted(Long answerId) {
+    try {
+      stringRedisTemplate.delete(likesKey(answerId));
+    } catch (DataAccessException e) {
+      log.warn("인기 질문 좋아요 기록 제거 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 인기 질문을 점수 순으로 조회합니다.
+   *
+   * @param subjectName 과목, null 이면 전체
+   * @param size        최대 항목 수
+   */
+  public List<GetQuestionResponseDto> getTrending(SubjectNames subjectName, int size) {
+    int limit = Math.max(1, Math.min(size, Math.min(MAX_PAGE_SIZE, topK)));
+    Set<String> members;
+    try {
+      members = stringRedisTemplate.opsForZSet()
+          .reverseRange(subjectName != null ? subjectKey(subjectName) : ALL_KEY, 0, limit - 1);
+    } catch (DataAccessException e) {
+      log.warn("인기 질문 조회 실패: {}", e.getMessage());
+      return List.of();
+    }
+    if (members == null || members.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> questionIds = members.stream().map(Long::valueOf).toList();
+    Map<Long, QuestionSummary> summaries = questionRepository.findSummariesByQuestionIdIn(questionIds)
+        .stream()
+        .collect(Collectors.toMap(QuestionSummary::questionId, Function.identity()));
+
+    // 순위 순서 유지, 그 사이 삭제된 질문은 제외
+    List<GetQuestionResponseDto> trending = new ArrayList<>(questionIds.size());
+    for (Long questionId : questionIds) {
+      QuestionSummary summary = summaries.get(questionId);
+      if (summary != null) {
+        trending.add(GetQuestionResponseDto.fromSummary(summary, mediaStore.urlOf(summary.imageRef())));
+      }
+    }
+    return trending;
+  }
+
+  @Scheduled(fixedDelayString = "${questions.trending.rescale-interval-ms:3600000}",
+      initialDelayString = "${questions.trending.rescale-interval-ms:3600000}")
+  public void rescale() {
+    Optional<String> lock = redisLock.tryLock(LOCK_NAME, Duration.ofMinutes(1));
+    if (lock.isEmpty()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.execute(RESCALE_SCRIPT, allKeys(), String.valueOf(nowSeconds()),
+          String.valueOf(lambda), String.valueOf(MIN_SCORE));
+    } catch (DataAccessException e) {
+      log.warn("인기 질문 점수 재조정 실패: {}", e.getMessage());
+    } finally {
+      redisLock.unlock(LOCK_NAME, lock.get());
+    }
+  }
+
+  private void increment(Long questionId, SubjectNames subjectName, double weight) {
+    try {
+      stringRedisTemplate.execute(INCREMENT_SCRIPT,
+          List.of(LANDMARK_KEY, ALL_KEY, subjectKey(subjectName)),
+          questionId.toString(), String.valueOf(weight), String.valueOf(nowSeconds()),
+          String.valueOf(lambda), String.valueOf(topK));
+    } catch (DataAccessException e) {
+      // 순위는 근사치이므로 반영하지 못해도 요청은 계속 진행
+      log.warn("인기 질문 점수 반영 실패: {}", e.getMessage());
+    }
+  }
+
+  // 과목은 노드마다 캐시하면 다른 노드의 과목 변경을 놓치므로 매번 PK 로 조회 (컬럼 하나)
+  private Optional<SubjectNames> subjectOf(Long questionId) {
+    return questionRepository.findSubjectNameByQuestionId(questionId);
+  }
+
+  private List<String> allKeys() {
+    List<String> keys = new ArrayList<>();
+    keys.add(LANDMARK_KEY);
+    keys.add(ALL_KEY);
+    for (SubjectNames subjectName : SubjectNames.values()) {
+      keys.add(subjectKey(subjectName));
+    }
+    return keys;
+  }
+
+  private String likesKey(Long answerId) {
+    return LIKES_KEY_PREFIX + answerId;
+  }
+
+  private String subjectKey(SubjectNames subjectName) {
+    return KEY_PREFIX + subjectName.name();
+  }
+
+  private long nowSeconds() {
+    return System.currentTimeMillis() / 1000;
+  }
+}
@@ -0,0 +1,41 @@
+package heekuu.table.search.controller;
+
+import heekuu.table.questions.dto.CursorPageResponse;
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.search.dto.SearchHit;
+import heekuu.table.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/questions/search")
+public class SearchController {
+
+  private final SearchService searchService;
+
+  /**
+   * 질문 제목/본문과 답변 본문을 검색합니다.
+   *
+   * @param q           검색어
+   * @param subjectName 과목 필터 (선택)
+   * @param isSolved    해결 여부 필터 (선택)
+   * @param cursor      이전 응답의 nextCursor, 첫 페이지는 생략
+   * @param size        페이지당 항목 수
+   * @return 점수 순 검색 결과와 다음 페이지 커서
+   */
+  @GetMapping
+  public ResponseEntity<CursorPageResponse<SearchHit>> search(
+      @RequestParam("q") String q,
+      @RequestParam(required = false) SubjectNames subjectName,
+      @RequestParam(required = false) Boolean isSolved,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+
+    return ResponseEntity.ok(searchService.search(q, subjectName, isSolved, cursor, size));
+  }
+}
@@ -0,0 +1,12 @@
+package heekuu.table.search.dto;
+
+/**
+ * 색인할 답변 필드 (SearchSourceRepository projection)
+ */
+public record AnswerDocument(
+    Long answerId,
+    Long questionId,
+    String content
+) {
+
+}
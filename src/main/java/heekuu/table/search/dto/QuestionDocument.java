@@ -0,0 +1,16 @@
+package heekuu.table.search.dto;
+
+import heekuu.table.questions.type.SubjectNames;
+
+/**
+ * 색인할 질문 필드 (SearchSourceRepository projection)
+ */
+public record QuestionDocument(
+    Long questionId,
+    String title,
+    String content,
+    SubjectNames subjectName,
+    boolean isSolved
+) {
+
+}
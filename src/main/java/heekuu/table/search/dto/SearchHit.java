@@ -0,0 +1,22 @@
+package heekuu.table.search.dto;
+
+import heekuu.table.questions.type.SubjectNames;
+
+/**
+ * 검색 결과 한 건. 답변이 일치한 경우에도 질문 정보를 함께 내려준다.
+ *
+ * @param type     일치한 문서 종류 (QUESTION, ANSWER)
+ * @param answerId 답변이 일치한 경우의 답변 ID, 질문이면 null
+ * @param score    BM25 점수
+ */
+public record SearchHit(
+    String type,
+    Long questionId,
+    Long answerId,
+    String title,
+    SubjectNames subjectName,
+    boolean isSolved,
+    float score
+) {
+
+}
@@ -0,0 +1,22 @@
+package heekuu.table.search.index;
+
+import java.util.List;
+
+/**
+ * 텍스트를 색인/검색 토큰으로 나누는 규칙. 색인과 질의에 같은 구현을 사용해야 한다.
+ */
+public interface Analyzer {
+
+  // 문서 색인용 토큰
+  List<String> analyze(String text);
+
+  // 검색어 토큰, 색인할 때만 만드는 보조 키가 있으면 재정의
+  default List<String> analyzeQuery(String text) {
+    return analyze(text);
+  }
+
+  /**
+   * 스냅샷 호환성 확인용 이름. 토큰 규칙이 바뀌면 이름도 바꿔서 이전 스냅샷을 버리게 한다.
+   */
+  String name();
+}
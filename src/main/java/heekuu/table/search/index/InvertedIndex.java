@@ -0,0 +1,415 @@
+package heekuu.table.search.index;
+
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.search.dto.AnswerDocument;
+import heekuu.table.search.dto.QuestionDocument;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 질문/답변 본문의 메모리 역색인과 BM25 순위 검색
+ *
+ * 문서를 다시 색인하면 새 문서 번호를 받고 이전 번호는 삭제 표시만 한다. 삭제된 번호가 일정 비율을
+ * 넘으면 compact() 로 posting 목록을 다시 만든다. 쓰기는 한 스레드(SearchIndexService)에서만 하고,
+ * 검색은 읽기 잠금으로 여러 스레드가 동시에 할 수 있다.
+ */
+public class InvertedIndex {
+
+  private static final int SNAPSHOT_MAGIC = 0x51534958; // "QSIX"
+  private static final int SNAPSHOT_VERSION = 2;
+
+  // BM25 파라미터
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+  // 제목은 본문보다 두 배의 가중치로 색인
+  private static final int TITLE_BOOST = 2;
+  // 삭제된 문서 번호가 이 비율을 넘으면 compact
+  private static final double COMPACT_RATIO = 0.3;
+
+  public enum DocType {
+    QUESTION, ANSWER
+  }
+
+  public record SearchFilter(SubjectNames subjectName, Boolean isSolved) {
+
+    boolean matches(QuestionMeta meta) {
+      return (subjectName == null || subjectName == meta.subjectName())
+          && (isSolved == null || isSolved == meta.isSolved());
+    }
+  }
+
+  // 정렬 순서 (점수 내림차순, 키 오름차순) 에서 마지막으로 반환한 위치
+  public record After(float score, String key) {
+
+  }
+
+  public record Hit(String key, DocType type, long id, long questionId, String title,
+                    SubjectNames subjectName, boolean isSolved, float score) {
+
+  }
+
+  private record DocEntry(String key, DocType type, long id, long questionId, int length) {
+
+  }
+
+  private record QuestionMeta(String title, SubjectNames subjectName, boolean isSolved) {
+
+  }
+
+  private static final Comparator<Hit> RANKING =
+      Comparator.comparing(Hit::score).reversed().thenComparing(Hit::key);
+
+  private final Analyzer analyzer;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private List<DocEntry> docs = new ArrayList<>(); // 문서 번호 → 문서, 삭제되면 null
+  private final Map<String, Integer> docNumbers = new HashMap<>();
+  private Map<String, PostingList> postings = new HashMap<>();
+  private final Map<Long, QuestionMeta> questions = new HashMap<>();
+  private final Map<Long, Set<Long>> answersByQuestion = new HashMap<>();
+  private long totalLength;
+  private int liveDocs;
+  private int deletedDocs;
+
+  public InvertedIndex(Analyzer analyzer) {
+    this.analyzer = analyzer;
+  }
+
+  public void indexQuestion(QuestionDocument document) {
+    List<String> tokens = new ArrayList<>();
+    List<String> titleTokens = analyzer.analyze(document.title());
+    for (int i = 0; i < TITLE_BOOST; i++) {
+      tokens.addAll(titleTokens);
+    }
+    tokens.addAll(analyzer.analyze(document.content()));
+
+    lock.writeLock().lock();
+    try {
+      questions.put(document.questionId(), new QuestionMeta(document.title(),
+          document.subjectName(), document.isSolved()));
+      addDoc(questionKey(document.questionId()), DocType.QUESTION, document.questionId(),
+          document.questionId(), tokens);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void indexAnswer(AnswerDocument document) {
+    List<String> tokens = analyzer.analyze(document.content());
+
+    lock.writeLock().lock();
+    try {
+      answersByQuestion.computeIfAbsent(document.questionId(), id -> new HashSet<>())
+          .add(document.answerId());
+      addDoc(answerKey(document.answerId()), DocType.ANSWER, document.answerId(),
+          document.questionId(), tokens);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // 질문과 그 질문의 답변을 모두 제거
+  public void removeQuestion(long questionId) {
+    lock.writeLock().lock();
+    try {
+      questions.remove(questionId);
+      removeDoc(questionKey(questionId));
+      Set<Long> answerIds = answersByQuestion.remove(questionId);
+      if (answerIds != null) {
+        answerIds.forEach(answerId -> removeDoc(answerKey(answerId)));
+      }
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void removeAnswer(long answerId) {
+    lock.writeLock().lock();
+    try {
+      Integer number = docNumbers.get(answerKey(answerId));
+      if (number != null) {
+        Set<Long> answerIds = answersByQuestion.get(docs.get(number).questionId());
+        if (answerIds != null) {
+          answerIds.remove(answerId);
+        }
+      }
+      removeDoc(answerKey(answerId));
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public Set<Long> questionIds() {
+    lock.readLock().lock();
+    try {
+      return new HashSet<>(questions.keySet());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public Set<Long> answerIds() {
+    lock.readLock().lock();
+    try {
+      Set<Long> ids = new HashSet<>();
+      answersByQuestion.values().forEach(ids::addAll);
+      return ids;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return liveDocs;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * BM25 점수 순으로 after 다음 위치부터 최대 limit 건을 반환합니다.
+   *
+   * @param query  검색어
+   * @param filter 과목/해결 여부 필터
+   * @param after  이전 페이지의 마지막 위치, 첫 페이지면 null
+   * @param limit  최대 결과 수
+   */
+  public List<Hit> search(String query, SearchFilter filter, After after, int limit) {
+    Set<String> terms = new LinkedHashSet<>(analyzer.analyzeQuery(query));
+    if (terms.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      if (liveDocs == 0) {
+        return List.of();
+      }
+      float averageLength = (float) totalLength / liveDocs;
+      Map<Integer, Float> scores = new HashMap<>();
+
+      for (String term : terms) {
+        PostingList list = postings.get(term);
+        if (list == null) {
+          continue;
+        }
+        // 삭제 표시된 문서도 df 에 포함되지만 compact 전까지의 근사치로 충분
+        int df = Math.min(list.size(), liveDocs);
+        float idf = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+        list.forEach((doc, freq) -> {
+          DocEntry entry = docs.get(doc);
+          if (entry == null) {
+            return;
+          }
+          QuestionMeta meta = questions.get(entry.questionId());
+          if (meta == null || !filter.matches(meta)) {
+            return;
+          }
+          float norm = K1 * (1 - B + B * entry.length() / averageLength);
+          float termScore = idf * freq * (K1 + 1) / (freq + norm);
+          scores.merge(doc, termScore, Float::sum);
+        });
+      }
+
+      // 점수가 낮은 것부터 꺼내지는 크기 limit 의 힙으로 상위 결과만 유지
+      PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+      scores.forEach((doc, score) -> {
+        DocEntry entry = docs.get(doc);
+        if (after != null && !isAfter(score, entry.key(), after)) {
+          return;
+        }
+        QuestionMeta meta = questions.get(entry.questionId());
+        top.add(new Hit(entry.key(), entry.type(), entry.id(), entry.questionId(), meta.title(),
+            meta.subjectName(), meta.isSolved(), score));
+        if (top.size() > limit) {
+          top.poll();
+        }
+      });
+
+      List<Hit> hits = new ArrayList<>(top);
+      hits.sort(RANKING);
+      return hits;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 색인을 스트림에 기록합니다. 기록 전에 삭제된 문서를 정리합니다.
+   * 정리 후 쓰기 잠금을 읽기 잠금으로 낮춰, 기록 중에는 검색만 허용하고 변경은 막습니다.
+   */
+  public void writeTo(DataOutput out) throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (deletedDocs > 0) {
+        compact();
+      }
+      lock.readLock().lock();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    try {
+      out.writeInt(SNAPSHOT_MAGIC);
+      out.writeInt(SNAPSHOT_VERSION);
+      out.writeUTF(analyzer.name());
+
+      out.writeInt(questions.size());
+      for (Map.Entry<Long, QuestionMeta> question : questions.entrySet()) {
+        out.writeLong(question.getKey());
+        out.writeUTF(question.getValue().title());
+        out.writeUTF(question.getValue().subjectName().name());
+        out.writeBoolean(question.getValue().isSolved());
+      }
+
+      out.writeInt(docs.size());
+      for (DocEntry entry : docs) {
+        out.writeByte(entry.type().ordinal());
+        out.writeLong(entry.id());
+        out.writeLong(entry.questionId());
+        out.writeInt(entry.length());
+      }
+
+      out.writeInt(postings.size());
+      for (Map.Entry<String, PostingList> posting : postings.entrySet()) {
+        out.writeUTF(posting.getKey());
+        posting.getValue().writeTo(out);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 스냅샷을 읽어 색인을 만듭니다.
+   *
+   * @return 색인, 형식이나 분석기가 다르면 null (전체 색인 필요)
+   */
+  public static InvertedIndex readFrom(DataInput in, Analyzer analyzer) throws IOException {
+    if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION
+        || !analyzer.name().equals(in.readUTF())) {
+      return null;
+    }
+
+    InvertedIndex index = new InvertedIndex(analyzer);
+    int questionCount = in.readInt();
+    for (int i = 0; i < questionCount; i++) {
+      long questionId = in.readLong();
+      index.questions.put(questionId, new QuestionMeta(in.readUTF(),
+          SubjectNames.valueOf(in.readUTF()), in.readBoolean()));
+    }
+
+    int docCount = in.readInt();
+    for (int i = 0; i < docCount; i++) {
+      DocType type = DocType.values()[in.readByte()];
+      long id = in.readLong();
+      long questionId = in.readLong();
+      int length = in.readInt();
+      String key = type == DocType.QUESTION ? questionKey(id) : answerKey(id);
+      index.docs.add(new DocEntry(key, type, id, questionId, length));
+      index.docNumbers.put(key, i);
+      if (type == DocType.ANSWER) {
+        index.answersByQuestion.computeIfAbsent(questionId, qid -> new HashSet<>()).add(id);
+      }
+      index.totalLength += length;
+      index.liveDocs++;
+    }
+
+    int termCount = in.readInt();
+    for (int i = 0; i < termCount; i++) {
+      index.postings.put(in.readUTF(), PostingList.readFrom(in));
+    }
+    return index;
+  }
+
+  private void addDoc(String key, DocType type, long id, long questionId, List<String> tokens) {
+    removeDoc(key);
+
+    int number = docs.size();
+    docs.add(new DocEntry(key, type, id, questionId, tokens.size()));
+    docNumbers.put(key, number);
+
+    Map<String, Integer> frequencies = new HashMap<>();
+    for (String token : tokens) {
+      frequencies.merge(token, 1, Integer::sum);
+    }
+    frequencies.forEach((term, freq) ->
+        postings.computeIfAbsent(term, t -> new PostingList()).add(number, freq));
+
+    totalLength += tokens.size();
+    liveDocs++;
+    compactIfNeeded();
+  }
+
+  private void removeDoc(String key) {
+    Integer number = docNumbers.remove(key);
+    if (number == null) {
+      return;
+    }
+    DocEntry entry = docs.set(number, null);
+    totalLength -= entry.length();
+    liveDocs--;
+    deletedDocs++;
+  }
+
+  private void compactIfNeeded() {
+    if (deletedDocs > 0 && deletedDocs > (liveDocs + deletedDocs) * COMPACT_RATIO) {
+      compact();
+    }
+  }
+
+  // 삭제된 문서 번호를 빼고 번호를 다시 매김 (순서가 유지되므로 posting 은 계속 정렬 상태)
+  private void compact() {
+    int[] remap = new int[docs.size()];
+    List<DocEntry> compactedDocs = new ArrayList<>(liveDocs);
+    for (int i = 0; i < docs.size(); i++) {
+      DocEntry entry = docs.get(i);
+      if (entry == null) {
+        remap[i] = -1;
+      } else {
+        remap[i] = compactedDocs.size();
+        docNumbers.put(entry.key(), compactedDocs.size());
+        compactedDocs.add(entry);
+      }
+    }
+
+    Map<String, PostingList> compactedPostings = new HashMap<>(postings.size());
+    postings.forEach((term, list) -> {
+      PostingList compacted = list.compact(remap);
+      if (compacted.size() > 0) {
+        compactedPostings.put(term, compacted);
+      }
+    });
+
+    docs = compactedDocs;
+    postings = compactedPostings;
+    deletedDocs = 0;
+  }
+
+  private static boolean isAfter(float score, String key, After after) {
+    return score < after.score() || (score == after.score() && key.compareTo(after.key()) > 0);
+  }
+
+  private static String questionKey(long questionId) {
+    return "Q" + questionId;
+  }
+
+  private static String answerKey(long answerId) {
+    return "A" + answerId;
+  }
+}
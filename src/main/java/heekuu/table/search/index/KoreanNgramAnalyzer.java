@@ -0,0 +1,127 @@
+package heekuu.table.search.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어 n-gram 분석기
+ *
+ * 한글 단어는 조사와 복합명사를 따로 떼어내지 않고 음절 bigram/trigram 으로 색인하므로
+ * "수학문제는" 이 "수학", "문제" 로 검색된다. 한 음절 단어는 그대로 색인한다.
+ * 색인할 때는 초성 bigram/trigram(예: ㅅㅎ) 도 함께 만들어, 초성만으로 입력한 검색어도 찾을 수 있다.
+ * 한글이 아닌 문자/숫자 연속은 소문자 단어 하나로 색인한다.
+ */
+public class KoreanNgramAnalyzer implements Analyzer {
+
+  private static final char HANGUL_BASE = '가';
+  private static final char HANGUL_LAST = '힣';
+  private static final int JUNGSEONG_COUNT = 21;
+  private static final int JONGSEONG_COUNT = 28;
+  // 초성 순서의 호환 자모 (ㄱ ㄲ ㄴ ㄷ ㄸ ㄹ ㅁ ㅂ ㅃ ㅅ ㅆ ㅇ ㅈ ㅉ ㅊ ㅋ ㅌ ㅍ ㅎ)
+  private static final char[] CHOSEONG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  private static final int MIN_GRAM = 2;
+  private static final int MAX_GRAM = 3;
+
+  private enum Script {
+    HANGUL, CHOSEONG, OTHER, NONE
+  }
+
+  @Override
+  public List<String> analyze(String text) {
+    return tokenize(text, true);
+  }
+
+  // 검색어에는 초성 키를 만들지 않음 ("수학" 이 "사회" 와 같은 초성 ㅅㅎ 으로 일치하지 않도록)
+  @Override
+  public List<String> analyzeQuery(String text) {
+    return tokenize(text, false);
+  }
+
+  @Override
+  public String name() {
+    return "korean-ngram-v1";
+  }
+
+  private List<String> tokenize(String text, boolean indexing) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null) {
+      return tokens;
+    }
+
+    int start = 0;
+    Script current = Script.NONE;
+    for (int i = 0; i <= text.length(); i++) {
+      Script script = i < text.length() ? scriptOf(text.charAt(i)) : Script.NONE;
+      if (script != current) {
+        if (current != Script.NONE) {
+          emit(text.substring(start, i), current, indexing, tokens);
+        }
+        start = i;
+        current = script;
+      }
+    }
+    return tokens;
+  }
+
+  private void emit(String run, Script script, boolean indexing, List<String> tokens) {
+    switch (script) {
+      case HANGUL -> {
+        addGrams(run, tokens);
+        if (indexing) {
+          addGrams(choseongOf(run), tokens);
+        }
+      }
+      // 초성만 입력한 경우 색인된 초성 n-gram 과 비교
+      case CHOSEONG -> addGrams(run, tokens);
+      case OTHER -> tokens.add(run.toLowerCase(Locale.ROOT));
+      default -> {
+      }
+    }
+  }
+
+  // 길이가 MIN_GRAM 보다 짧으면 단어 그대로, 아니면 bigram 과 trigram
+  private void addGrams(String word, List<String> tokens) {
+    if (word.length() < MIN_GRAM) {
+      tokens.add(word);
+      return;
+    }
+    for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+      for (int i = 0; i + n <= word.length(); i++) {
+        tokens.add(word.substring(i, i + n));
+      }
+    }
+  }
+
+  private String choseongOf(String syllables) {
+    char[] initials = new char[syllables.length()];
+    for (int i = 0; i < syllables.length(); i++) {
+      int offset = syllables.charAt(i) - HANGUL_BASE;
+      initials[i] = CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+    }
+    return new String(initials);
+  }
+
+  private Script scriptOf(char c) {
+    if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+      return Script.HANGUL;
+    }
+    if (isChoseong(c)) {
+      return Script.CHOSEONG;
+    }
+    return Character.isLetterOrDigit(c) ? Script.OTHER : Script.NONE;
+  }
+
+  private boolean isChoseong(char c) {
+    for (char choseong : CHOSEONG) {
+      if (choseong == c) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
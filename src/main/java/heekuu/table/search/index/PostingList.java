@@ -0,0 +1,129 @@
+package heekuu.table.search.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 한 단어가 등장하는 문서 번호와 빈도 목록
+ *
+ * 문서 번호는 색인 순서대로 증가하므로 항상 뒤에 추가만 한다. 이전 문서 번호와의 차이와 빈도를
+ * 가변 길이 정수(7비트씩, 최상위 비트는 계속 여부)로 이어 붙여 저장하므로, 자주 나오는 단어는
+ * 항목당 보통 2바이트를 넘지 않는다.
+ */
+final class PostingList {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private byte[] bytes = new byte[INITIAL_CAPACITY];
+  private int length; // bytes 중 사용한 길이
+  private int size;
+  private int lastDoc = -1;
+
+  void add(int doc, int freq) {
+    if (doc <= lastDoc) {
+      throw new IllegalArgumentException("문서 번호는 증가해야 합니다: " + doc);
+    }
+    // 차이와 빈도는 각각 최대 5바이트
+    ensureCapacity(length + 10);
+    writeVarInt(doc - lastDoc);
+    writeVarInt(freq);
+    lastDoc = doc;
+    size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void forEach(PostingVisitor visitor) {
+    int position = 0;
+    int doc = -1;
+    while (position < length) {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = bytes[position++];
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      doc += value;
+
+      int freq = 0;
+      shift = 0;
+      do {
+        b = bytes[position++];
+        freq |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      visitor.visit(doc, freq);
+    }
+  }
+
+  /**
+   * 삭제된 문서를 빼고 문서 번호를 새 번호로 바꾼 목록을 만듭니다.
+   *
+   * @param remap 이전 번호 → 새 번호, 삭제된 문서는 -1
+   */
+  PostingList compact(int[] remap) {
+    PostingList compacted = new PostingList();
+    forEach((doc, freq) -> {
+      int mapped = remap[doc];
+      if (mapped >= 0) {
+        compacted.add(mapped, freq);
+      }
+    });
+    compacted.trim();
+    return compacted;
+  }
+
+  // 압축된 바이트를 그대로 기록
+  void writeTo(DataOutput out) throws IOException {
+    out.writeInt(size);
+    out.writeInt(lastDoc);
+    out.writeInt(length);
+    out.write(bytes, 0, length);
+  }
+
+  static PostingList readFrom(DataInput in) throws IOException {
+    PostingList list = new PostingList();
+    list.size = in.readInt();
+    list.lastDoc = in.readInt();
+    list.length = in.readInt();
+    if (list.size < 0 || list.length < 0) {
+      throw new IOException("잘못된 posting 목록 크기");
+    }
+    list.bytes = new byte[Math.max(list.length, INITIAL_CAPACITY)];
+    in.readFully(list.bytes, 0, list.length);
+    return list;
+  }
+
+  // 더 추가되지 않을 목록의 남는 용량 반환
+  void trim() {
+    if (bytes.length > length && length > 0) {
+      bytes = Arrays.copyOf(bytes, length);
+    }
+  }
+
+  private void ensureCapacity(int required) {
+    if (required > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length + (bytes.length >> 1)));
+    }
+  }
+
+  private void writeVarInt(int value) {
+    while ((value & ~0x7F) != 0) {
+      bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    bytes[length++] = (byte) value;
+  }
+
+  @FunctionalInterface
+  interface PostingVisitor {
+
+    void visit(int doc, int freq);
+  }
+}
@@ -0,0 +1,35 @@
+package heekuu.table.search.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자/숫자가 아닌 문자를 경계로 나누고 소문자로 바꾸는 기본 분석기
+ */
+public class StandardAnalyzer implements Analyzer {
+
+  @Override
+  public List<String> analyze(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null) {
+      return tokens;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  @Override
+  public String name() {
+    return "standard-v1";
+  }
+}
@@ -0,0 +1,52 @@
+package heekuu.table.search.repository;
+
+import heekuu.table.questions.entity.Question;
+import heekuu.table.search.dto.AnswerDocument;
+import heekuu.table.search.dto.QuestionDocument;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 검색 색인용 읽기 전용 조회. 색인에 필요한 컬럼만 projection 으로 읽는다.
+ */
+public interface SearchSourceRepository extends Repository<Question, Long> {
+
+  String QUESTION_SELECT = "SELECT new heekuu.table.search.dto.QuestionDocument("
+      + "q.questionId, q.title, q.content, q.subjectName, q.isSolved) FROM Question q";
+  String ANSWER_SELECT = "SELECT new heekuu.table.search.dto.AnswerDocument("
+      + "a.answerId, a.question.questionId, a.content) FROM Answer a";
+
+  @Query(QUESTION_SELECT + " WHERE q.questionId = :questionId")
+  Optional<QuestionDocument> findQuestionDocument(@Param("questionId") Long questionId);
+
+  @Query(ANSWER_SELECT + " WHERE a.answerId = :answerId")
+  Optional<AnswerDocument> findAnswerDocument(@Param("answerId") Long answerId);
+
+  // 전체 색인: questionId/answerId 순서로 배치 단위 조회
+  @Query(QUESTION_SELECT + " WHERE q.questionId > :afterId ORDER BY q.questionId")
+  List<QuestionDocument> findQuestionDocumentsAfter(@Param("afterId") Long afterId,
+      Pageable pageable);
+
+  @Query(ANSWER_SELECT + " WHERE a.answerId > :afterId ORDER BY a.answerId")
+  List<AnswerDocument> findAnswerDocumentsAfter(@Param("afterId") Long afterId,
+      Pageable pageable);
+
+  // 스냅샷 이후 변경분
+  @Query(QUESTION_SELECT + " WHERE q.updatedAt >= :since")
+  List<QuestionDocument> findQuestionDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+  @Query(ANSWER_SELECT + " WHERE a.updatedAt >= :since")
+  List<AnswerDocument> findAnswerDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+  // 스냅샷 이후 삭제된 문서를 찾기 위한 ID 목록
+  @Query("SELECT q.questionId FROM Question q")
+  List<Long> findAllQuestionIds();
+
+  @Query("SELECT a.answerId FROM Answer a")
+  List<Long> findAllAnswerIds();
+}
@@ -0,0 +1,29 @@
+package heekuu.table.search.service;
+
+import heekuu.table.answer.event.AnswerChangedEvent;
+import heekuu.table.questions.event.QuestionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 질문/답변 도메인 이벤트를 커밋 이후 검색 색인 갱신으로 연결
+ * (트랜잭션 밖에서 발행된 이벤트는 즉시 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchEventListener {
+
+  private final SearchIndexService searchIndexService;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onQuestionChanged(QuestionChangedEvent event) {
+    searchIndexService.publishQuestionChanged(event.questionId(), event.deleted());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onAnswerChanged(AnswerChangedEvent event) {
+    searchIndexService.publishAnswerChanged(event.answerId(), event.deleted());
+  }
+}
@@ -0,0 +1,286 @@
+package heekuu.table.search.service;
+
+import heekuu.table.common.event.ClusterEventBus;
+import heekuu.table.search.dto.AnswerDocument;
+import heekuu.table.search.dto.QuestionDocument;
+import heekuu.table.search.index.Analyzer;
+import heekuu.table.search.index.InvertedIndex;
+import heekuu.table.search.repository.SearchSourceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 노드 로컬 검색 색인의 수명 주기 관리
+ *
+ * - 기동: 스냅샷이 있으면 읽고 이후 변경분만 DB 에서 따라잡고, 없으면 전체 색인
+ * - 변경: 커밋된 변경을 search-index 채널로 모든 노드에 알리고, 각 노드가 DB 에서 다시 읽어 반영
+ * - 저장: 주기적으로, 그리고 종료 시 스냅샷을 디스크에 기록
+ *
+ * 색인 쓰기는 모두 단일 스레드 실행기에서 순서대로 처리한다.
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+
+  static final String INDEX_CHANNEL = "search-index";
+  private static final String SNAPSHOT_FILE = "index.snapshot";
+  // updatedAt 이 분 단위로 잘리고 이벤트 반영이 늦을 수 있으므로 스냅샷 시각보다 여유 있게 따라잡음
+  private static final long CATCH_UP_SLACK_MILLIS = 120_000L;
+  private static final int REINDEX_BATCH_SIZE = 500;
+
+  private final SearchSourceRepository searchSourceRepository;
+  private final ClusterEventBus clusterEventBus;
+  private final Analyzer analyzer;
+  private final Path snapshotDirectory;
+
+  private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "search-indexer");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean dirty = new AtomicBoolean();
+  private volatile InvertedIndex index;
+  private volatile boolean ready;
+
+  public SearchIndexService(SearchSourceRepository searchSourceRepository,
+      ClusterEventBus clusterEventBus, Analyzer analyzer,
+      @Value("${search.index.dir:./search-index}") String snapshotDirectory) {
+    this.searchSourceRepository = searchSourceRepository;
+    this.clusterEventBus = clusterEventBus;
+    this.analyzer = analyzer;
+    this.snapshotDirectory = Path.of(snapshotDirectory);
+    this.index = new InvertedIndex(analyzer);
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    clusterEventBus.subscribe(INDEX_CHANNEL, this::onIndexMessage);
+  }
+
+  // 기동이 끝난 뒤 백그라운드에서 색인 준비, 그 전에 들어온 변경은 실행기 큐에서 뒤에 처리됨
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    submit(this::loadOrRebuild);
+  }
+
+  public InvertedIndex getIndex() {
+    return index;
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 질문 변경을 모든 노드에 알립니다. (커밋 이후 호출)
+   */
+  public void publishQuestionChanged(Long questionId, boolean deleted) {
+    clusterEventBus.publish(INDEX_CHANNEL, (deleted ? "-Q" : "Q") + questionId);
+  }
+
+  public void publishAnswerChanged(Long answerId, boolean deleted) {
+    clusterEventBus.publish(INDEX_CHANNEL, (deleted ? "-A" : "A") + answerId);
+  }
+
+  // 스냅샷도 색인 실행기에서 기록해서, 기록 중에 다른 색인 변경이 끼어들지 않게 함
+  @Scheduled(fixedDelayString = "${search.snapshot-interval-ms:300000}",
+      initialDelayString = "${search.snapshot-interval-ms:300000}")
+  public void snapshotIfDirty() {
+    if (ready) {
+      submit(this::writeSnapshotIfDirty);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    indexExecutor.shutdown();
+    try {
+      if (!indexExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        log.warn("색인 작업이 끝나지 않아 종료 시 스냅샷을 건너뜁니다");
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    // 실행기가 종료되어 더 이상 색인 변경이 없으므로 현재 스레드에서 기록
+    if (ready) {
+      writeSnapshotIfDirty();
+    }
+  }
+
+  // 메시지 형식: [-]Q<questionId> 또는 [-]A<answerId>, - 는 삭제
+  private void onIndexMessage(String message) {
+    boolean deleted = message.startsWith("-");
+    String body = deleted ? message.substring(1) : message;
+    char type = body.charAt(0);
+    long id = Long.parseLong(body.substring(1));
+    submit(() -> {
+      if (type == 'Q') {
+        applyQuestion(id, deleted);
+      } else if (type == 'A') {
+        applyAnswer(id, deleted);
+      }
+      dirty.set(true);
+    });
+  }
+
+  private void applyQuestion(long questionId, boolean deleted) {
+    if (deleted) {
+      index.removeQuestion(questionId);
+      return;
+    }
+    searchSourceRepository.findQuestionDocument(questionId)
+        .ifPresentOrElse(index::indexQuestion, () -> index.removeQuestion(questionId));
+  }
+
+  private void applyAnswer(long answerId, boolean deleted) {
+    if (deleted) {
+      index.removeAnswer(answerId);
+      return;
+    }
+    searchSourceRepository.findAnswerDocument(answerId)
+        .ifPresentOrElse(index::indexAnswer, () -> index.removeAnswer(answerId));
+  }
+
+  private void loadOrRebuild() {
+    Path snapshot = snapshotDirectory.resolve(SNAPSHOT_FILE);
+    InvertedIndex loaded = null;
+    long snapshotAt = 0;
+    if (Files.exists(snapshot)) {
+      try (DataInputStream in = new DataInputStream(
+          new BufferedInputStream(Files.newInputStream(snapshot)))) {
+        snapshotAt = in.readLong();
+        loaded = InvertedIndex.readFrom(in, analyzer);
+      } catch (IOException | RuntimeException e) {
+        log.warn("검색 스냅샷을 읽을 수 없어 전체 색인합니다: {}", e.getMessage());
+        loaded = null;
+      }
+    }
+
+    if (loaded == null) {
+      rebuild();
+    } else {
+      index = loaded;
+      catchUp(snapshotAt);
+    }
+    ready = true;
+    dirty.set(true);
+    log.info("검색 색인 준비 완료: 문서 {}건", index.size());
+  }
+
+  // 질문과 답변을 ID 순서로 배치 조회해서 새 색인을 만든 뒤 교체
+  private void rebuild() {
+    InvertedIndex rebuilt = new InvertedIndex(analyzer);
+    long afterId = 0;
+    List<QuestionDocument> questions;
+    do {
+      questions = searchSourceRepository.findQuestionDocumentsAfter(afterId,
+          PageRequest.of(0, REINDEX_BATCH_SIZE));
+      for (QuestionDocument question : questions) {
+        rebuilt.indexQuestion(question);
+        afterId = question.questionId();
+      }
+    } while (questions.size() == REINDEX_BATCH_SIZE);
+
+    afterId = 0;
+    List<AnswerDocument> answers;
+    do {
+      answers = searchSourceRepository.findAnswerDocumentsAfter(afterId,
+          PageRequest.of(0, REINDEX_BATCH_SIZE));
+      for (AnswerDocument answer : answers) {
+        rebuilt.indexAnswer(answer);
+        afterId = answer.answerId();
+      }
+    } while (answers.size() == REINDEX_BATCH_SIZE);
+
+    index = rebuilt;
+  }
+
+  // 스냅샷 이후 수정된 문서를 다시 색인하고, DB 에서 사라진 문서를 제거
+  private void catchUp(long snapshotAt) {
+    LocalDateTime since = LocalDateTime.ofInstant(
+        Instant.ofEpochMilli(snapshotAt - CATCH_UP_SLACK_MILLIS), ZoneId.systemDefault());
+    searchSourceRepository.findQuestionDocumentsUpdatedSince(since).forEach(index::indexQuestion);
+    searchSourceRepository.findAnswerDocumentsUpdatedSince(since).forEach(index::indexAnswer);
+
+    Set<Long> existingQuestions = new HashSet<>(searchSourceRepository.findAllQuestionIds());
+    index.questionIds().stream()
+        .filter(questionId -> !existingQuestions.contains(questionId))
+        .forEach(index::removeQuestion);
+    Set<Long> existingAnswers = new HashSet<>(searchSourceRepository.findAllAnswerIds());
+    index.answerIds().stream()
+        .filter(answerId -> !existingAnswers.contains(answerId))
+        .forEach(index::removeAnswer);
+  }
+
+  private void writeSnapshotIfDirty() {
+    if (dirty.compareAndSet(true, false)) {
+      writeSnapshot();
+    }
+  }
+
+  // 임시 파일에 쓴 뒤 교체해서, 쓰는 도중 종료되어도 이전 스냅샷이 남도록 함
+  private void writeSnapshot() {
+    long snapshotAt = System.currentTimeMillis();
+    try {
+      Files.createDirectories(snapshotDirectory);
+      Path temp = Files.createTempFile(snapshotDirectory, "index-", ".tmp");
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeLong(snapshotAt);
+        index.writeTo(out);
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(temp);
+        throw e;
+      }
+      Files.move(temp, snapshotDirectory.resolve(SNAPSHOT_FILE),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      log.debug("검색 스냅샷 저장: 문서 {}건", index.size());
+    } catch (IOException | RuntimeException e) {
+      // 실패하면 다음 주기에 다시 기록
+      dirty.set(true);
+      log.warn("검색 스냅샷 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  private void submit(Runnable task) {
+    try {
+      indexExecutor.execute(() -> {
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          log.error("검색 색인 작업 실패", e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      log.debug("종료 중이라 색인 작업을 건너뜁니다");
+    }
+  }
+}
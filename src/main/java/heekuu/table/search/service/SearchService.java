@@ -0,0 +1,88 @@
+package heekuu.table.search.service;
+
+import heekuu.table.common.exception.CustomException;
+import heekuu.table.common.exception.ErrorCode;
+import heekuu.table.questions.dto.CursorPageResponse;
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.search.dto.SearchHit;
+import heekuu.table.search.index.InvertedIndex;
+import heekuu.table.search.index.InvertedIndex.After;
+import heekuu.table.search.index.InvertedIndex.Hit;
+import heekuu.table.search.index.InvertedIndex.SearchFilter;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+  private static final int MAX_QUERY_LENGTH = 200;
+  private static final int MAX_PAGE_SIZE = 50;
+
+  private final SearchIndexService searchIndexService;
+
+  /**
+   * 질문과 답변을 BM25 점수 순으로 검색합니다.
+   *
+   * @param query       검색어
+   * @param subjectName 과목 필터, null 이면 전체
+   * @param isSolved    해결 여부 필터, null 이면 전체
+   * @param cursor      이전 응답의 nextCursor, 첫 페이지면 null
+   * @param size        페이지 크기
+   * @return 검색 결과와 다음 페이지 커서
+   */
+  public CursorPageResponse<SearchHit> search(String query, SubjectNames subjectName,
+      Boolean isSolved, String cursor, int size) {
+    if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    // 기동 직후 색인을 불러오는 동안에는 빈 결과 대신 재시도 가능한 503 을 반환
+    if (!searchIndexService.isReady()) {
+      throw new CustomException(ErrorCode.SEARCH_NOT_READY);
+    }
+    int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+    InvertedIndex index = searchIndexService.getIndex();
+    List<Hit> hits = index.search(query, new SearchFilter(subjectName, isSolved),
+        decodeCursor(cursor), limit + 1);
+
+    boolean hasNext = hits.size() > limit;
+    List<Hit> pageHits = hasNext ? hits.subList(0, limit) : hits;
+    String nextCursor = hasNext ? encodeCursor(pageHits.get(pageHits.size() - 1)) : null;
+    return new CursorPageResponse<>(pageHits.stream().map(this::toSearchHit).toList(),
+        nextCursor, hasNext, null);
+  }
+
+  private SearchHit toSearchHit(Hit hit) {
+    boolean answer = hit.type() == InvertedIndex.DocType.ANSWER;
+    return new SearchHit(hit.type().name(), hit.questionId(), answer ? hit.id() : null,
+        hit.title(), hit.subjectName(), hit.isSolved(), hit.score());
+  }
+
+  // 커서: Base64url("점수 비트(16진수)|문서 키")
+  private String encodeCursor(Hit hit) {
+    String raw = Integer.toHexString(Float.floatToIntBits(hit.score())) + "|" + hit.key();
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private After decodeCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      if (separator < 0) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      float score = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, separator), 16));
+      return new After(score, raw.substring(separator + 1));
+    } catch (IllegalArgumentException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
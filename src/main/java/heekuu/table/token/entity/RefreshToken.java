@@ -7,8 +7,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,6 +23,10 @@ import lombok.Setter;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(name = "refresh_token", indexes = {
+    @Index(name = "idx_refresh_token_hash", columnList = "token_hash"),
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
 public class RefreshToken {
 
   @Id
@@ -28,19 +34,23 @@ public class RefreshToken {
   @Column(name = "token_id")
   private Long tokenId;
 
+  // 토큰 원문 대신 SHA-256 다이제스트 (16진수 64자)
+  // 기존 행이 있는 테이블에도 컬럼을 추가할 수 있도록 nullable 로 매핑하고,
+  // RefreshTokenSchemaMigration 이 이전 행을 정리한 뒤 NOT NULL 로 바꾼다.
+  @Column(name = "token_hash", length = 64)
+  private String tokenHash;
 
-  private String refresh;
-
-  private String expiration; // 만료시간
+  @Column(name = "expires_at")
+  private LocalDateTime expiresAt; // 만료시간
 
   @OneToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false, unique = true)
   private User user;
 
-  public RefreshToken(User user, String refresh, LocalDateTime expiration) {
+  public RefreshToken(User user, String tokenHash, LocalDateTime expiresAt) {
     this.user = user;
-    this.refresh = refresh;
-    this.expiration = String.valueOf(expiration);
+    this.tokenHash = tokenHash;
+    this.expiresAt = expiresAt;
   }
 
-}
\ No newline at end of file
+}
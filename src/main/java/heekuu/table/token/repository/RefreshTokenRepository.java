@@ -1,6 +1,7 @@
 package heekuu.table.token.repository;
 
 import heekuu.table.token.entity.RefreshToken;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,12 +11,30 @@ import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-  Boolean existsByRefresh(String refresh);
+  // user_id 유니크 키 기준으로 한 번에 삽입 또는 갱신 (MySQL)
+  @Modifying
+  @Transactional
+  @Query(value = "INSERT INTO refresh_token (user_id, token_hash, expires_at) "
+      + "VALUES (:userId, :tokenHash, :expiresAt) "
+      + "ON DUPLICATE KEY UPDATE token_hash = VALUES(token_hash), expires_at = VALUES(expires_at)",
+      nativeQuery = true)
+  int upsert(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+      @Param("expiresAt") LocalDateTime expiresAt);
+
+  boolean existsByUser_UserIdAndTokenHashAndExpiresAtAfter(Long userId, String tokenHash,
+      LocalDateTime now);
 
   @Modifying
   @Transactional
   @Query("DELETE FROM RefreshToken rt WHERE rt.user.userId = :userId")
-  void deleteByUserId(@Param("userId") Long userId);
+  int deleteByUserId(@Param("userId") Long userId);
+
+  // 만료된 토큰을 expires_at 인덱스 순서로 최대 batchSize 건만 삭제 (MySQL), 호출마다 별도 트랜잭션
+  @Modifying
+  @Transactional
+  @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now "
+      + "ORDER BY expires_at LIMIT :batchSize", nativeQuery = true)
+  int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 
   boolean existsByUser_UserId(Long userId);
 
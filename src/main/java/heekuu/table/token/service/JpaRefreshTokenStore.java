@@ -0,0 +1,46 @@
+package heekuu.table.token.service;
+
+import heekuu.table.common.util.HashUtil;
+import heekuu.table.token.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * refresh_token 테이블 기반 저장소 (기본값)
+ *
+ * user_id 유니크 키에 대한 INSERT ... ON DUPLICATE KEY UPDATE 로 한 번에 덮어쓰고,
+ * 조회는 user_id 와 token_hash 로만 수행한다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "token.refresh-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+
+  @Override
+  @Transactional
+  public void save(Long userId, String refreshToken, long ttlMillis) {
+    LocalDateTime expiresAt = LocalDateTime.now().plus(ttlMillis, ChronoUnit.MILLIS);
+    refreshTokenRepository.upsert(userId, HashUtil.sha256Hex(refreshToken), expiresAt);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public boolean matches(Long userId, String refreshToken) {
+    return refreshTokenRepository.existsByUser_UserIdAndTokenHashAndExpiresAtAfter(
+        userId, HashUtil.sha256Hex(refreshToken), LocalDateTime.now());
+  }
+
+  @Override
+  @Transactional
+  public boolean delete(Long userId) {
+    return refreshTokenRepository.deleteByUserId(userId) > 0;
+  }
+}
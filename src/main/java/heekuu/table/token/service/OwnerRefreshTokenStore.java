@@ -0,0 +1,19 @@
+package heekuu.table.token.service;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사업자 리프레시 토큰 저장소 (OWNER_REFRESH_TOKEN:<ownerId>)
+ *
+ * 사업자는 users 테이블과 별개이므로 token.refresh-store 설정과 관계없이 항상 Redis 를 사용한다.
+ */
+@Component
+public class OwnerRefreshTokenStore extends RedisRefreshTokenStore {
+
+  private static final String OWNER_KEY_PREFIX = "OWNER_REFRESH_TOKEN:";
+
+  public OwnerRefreshTokenStore(RedisTemplate<String, Object> redisTemplate) {
+    super(redisTemplate, OWNER_KEY_PREFIX);
+  }
+}
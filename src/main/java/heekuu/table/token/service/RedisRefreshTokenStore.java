@@ -0,0 +1,57 @@
+package heekuu.table.token.service;
+
+import heekuu.table.common.util.HashUtil;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 저장소 (token.refresh-store=redis)
+ *
+ * <prefix><ownerKey> 키에 토큰 다이제스트를 저장하고, 만료는 Redis TTL 에 맡긴다.
+ * SET 자체가 덮어쓰기이므로 별도의 삭제나 조회 없이 upsert 된다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "token.refresh-store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+  private static final String USER_KEY_PREFIX = "REFRESH_TOKEN:";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final String keyPrefix;
+
+  @Autowired
+  public RedisRefreshTokenStore(RedisTemplate<String, Object> redisTemplate) {
+    this(redisTemplate, USER_KEY_PREFIX);
+  }
+
+  protected RedisRefreshTokenStore(RedisTemplate<String, Object> redisTemplate, String keyPrefix) {
+    this.redisTemplate = redisTemplate;
+    this.keyPrefix = keyPrefix;
+  }
+
+  @Override
+  public void save(Long ownerKey, String refreshToken, long ttlMillis) {
+    redisTemplate.opsForValue().set(
+        keyPrefix + ownerKey,
+        HashUtil.sha256Hex(refreshToken),
+        ttlMillis,
+        TimeUnit.MILLISECONDS
+    );
+  }
+
+  @Override
+  public boolean matches(Long ownerKey, String refreshToken) {
+    Object stored = redisTemplate.opsForValue().get(keyPrefix + ownerKey);
+    return HashUtil.sha256Hex(refreshToken).equals(stored);
+  }
+
+  @Override
+  public boolean delete(Long ownerKey) {
+    return Boolean.TRUE.equals(redisTemplate.delete(keyPrefix + ownerKey));
+  }
+}
@@ -0,0 +1,182 @@
+package heekuu.table.token.service;
+
+import heekuu.table.common.util.HashUtil;
+import heekuu.table.common.util.TransactionUtil;
+import heekuu.table.jwt.util.JWTUtil;
+import heekuu.table.user.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리프레시 토큰 패밀리 단위 회전(rotation) 관리
+ *
+ * 로그인마다 새 패밀리(fid 클레임)가 만들어지고, 재발급은 Redis 해시
+ * REFRESH_FAMILY:<userId>:<fid> {cur, prev, rotatedAt} 에 대한 Lua compare-and-swap 한 번으로
+ * 처리한다. 이미 회전된 이전 토큰이 다시 제출되면 탈취로 보고 패밀리 전체를 폐기한다.
+ * 단, 동시에 들어온 재발급 요청은 grace 구간 안에서 직전 토큰을 허용한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenFamilyService {
+
+  private static final String FAMILY_PREFIX = "REFRESH_FAMILY:";
+  private static final String FAMILIES_PREFIX = "REFRESH_FAMILIES:";
+
+  /**
+   * KEYS[1] 패밀리 해시, KEYS[2] 사용자별 패밀리 집합
+   * ARGV[1] 제출된 토큰 다이제스트, ARGV[2] 새 토큰 다이제스트, ARGV[3] 현재 시각(ms),
+   * ARGV[4] grace 구간(ms), ARGV[5] TTL(ms), ARGV[6] 패밀리 ID
+   * 반환: 1 회전 성공, 2 grace 구간 내 동시 요청, 0 없는 패밀리, -1 재사용 감지(패밀리 폐기)
+   */
+  private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+      "local cur = redis.call('HGET', KEYS[1], 'cur')\n"
+          + "if not cur then return 0 end\n"
+          + "if cur == ARGV[1] then\n"
+          + "  redis.call('HSET', KEYS[1], 'cur', ARGV[2], 'prev', ARGV[1], 'rotatedAt', ARGV[3])\n"
+          + "  redis.call('PEXPIRE', KEYS[1], ARGV[5])\n"
+          + "  return 1\n"
+          + "end\n"
+          + "local prev = redis.call('HGET', KEYS[1], 'prev')\n"
+          + "local rotatedAt = tonumber(redis.call('HGET', KEYS[1], 'rotatedAt') or '0')\n"
+          + "if prev == ARGV[1] and tonumber(ARGV[3]) - rotatedAt <= tonumber(ARGV[4]) then\n"
+          + "  return 2\n"
+          + "end\n"
+          + "redis.call('DEL', KEYS[1])\n"
+          + "redis.call('SREM', KEYS[2], ARGV[6])\n"
+          + "return -1\n",
+      Long.class);
+
+  // KEYS[1] 패밀리 해시, KEYS[2] 패밀리 집합, ARGV[1] 다이제스트, ARGV[2] 현재 시각, ARGV[3] TTL, ARGV[4] 패밀리 ID
+  private static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('HSET', KEYS[1], 'cur', ARGV[1], 'rotatedAt', ARGV[2])\n"
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[3])\n"
+          + "redis.call('SADD', KEYS[2], ARGV[4])\n"
+          + "redis.call('PEXPIRE', KEYS[2], ARGV[3])\n"
+          + "return 1\n",
+      Long.class);
+
+  /**
+   * KEYS[1] 패밀리 집합, KEYS[2..n] 폐기할 패밀리 해시, ARGV[1..n-1] 각 해시의 패밀리 ID
+   * 키는 모두 호출 측에서 선언한다. 조회 이후 새로 시작된 패밀리는 집합에 남는다.
+   */
+  private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>(
+      "for i = 2, #KEYS do redis.call('DEL', KEYS[i]) end\n"
+          + "if #ARGV > 0 then redis.call('SREM', KEYS[1], unpack(ARGV)) end\n"
+          + "return #ARGV\n",
+      Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final JWTUtil jwtUtil;
+  private final long graceMillis;
+
+  public RefreshTokenFamilyService(StringRedisTemplate stringRedisTemplate, JWTUtil jwtUtil,
+      @Value("${token.rotation.grace-ms:10000}") long graceMillis) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.jwtUtil = jwtUtil;
+    this.graceMillis = graceMillis;
+  }
+
+  public enum Rotation {
+    ROTATED,      // 새 토큰으로 교체됨
+    CONCURRENT,   // 직전 토큰으로 grace 구간 내 재요청, 리프레시 토큰은 교체하지 않음
+    UNKNOWN,      // 만료되었거나 폐기된 패밀리
+    REUSED        // 이미 회전된 토큰 재사용, 패밀리 전체 폐기됨
+  }
+
+  /**
+   * 새 패밀리로 리프레시 토큰을 발급합니다. 패밀리 등록은 트랜잭션 커밋 이후에 수행되어,
+   * 같은 트랜잭션에서 예약된 revokeAll() 보다 항상 뒤에 실행됩니다.
+   *
+   * @param user 사용자
+   * @param role 토큰에 담을 권한
+   * @return 리프레시 토큰
+   */
+  public String issue(User user, String role) {
+    String familyId = UUID.randomUUID().toString();
+    String refreshToken = jwtUtil.createRefreshJwt(user, role, familyId);
+    String digest = HashUtil.sha256Hex(refreshToken);
+    Long userId = user.getUserId();
+
+    TransactionUtil.runAfterCommit(() -> stringRedisTemplate.execute(START_SCRIPT,
+        List.of(familyKey(userId, familyId), familiesKey(userId)),
+        digest,
+        String.valueOf(System.currentTimeMillis()),
+        String.valueOf(jwtUtil.getRefreshTokenExpiration()),
+        familyId));
+    return refreshToken;
+  }
+
+  /**
+   * 제출된 토큰이 패밀리의 현재 토큰이면 새 토큰으로 원자적으로 교체합니다. (Redis 1회 호출)
+   */
+  public Rotation rotate(Long userId, String familyId, String presentedToken, String newToken) {
+    Long result = stringRedisTemplate.execute(ROTATE_SCRIPT,
+        List.of(familyKey(userId, familyId), familiesKey(userId)),
+        HashUtil.sha256Hex(presentedToken),
+        HashUtil.sha256Hex(newToken),
+        String.valueOf(System.currentTimeMillis()),
+        String.valueOf(graceMillis),
+        String.valueOf(jwtUtil.getRefreshTokenExpiration()),
+        familyId);
+
+    if (result == null || result == 0) {
+      return Rotation.UNKNOWN;
+    }
+    if (result == 1) {
+      return Rotation.ROTATED;
+    }
+    if (result == 2) {
+      return Rotation.CONCURRENT;
+    }
+    log.warn("리프레시 토큰 재사용 감지, 패밀리 폐기: 사용자 ID {}, 패밀리 {}", userId, familyId);
+    return Rotation.REUSED;
+  }
+
+  // 로그아웃 시 현재 토큰인지 확인
+  public boolean isCurrent(Long userId, String familyId, String refreshToken) {
+    Object cur = stringRedisTemplate.opsForHash().get(familyKey(userId, familyId), "cur");
+    return HashUtil.sha256Hex(refreshToken).equals(cur);
+  }
+
+  public void revoke(Long userId, String familyId) {
+    stringRedisTemplate.delete(familyKey(userId, familyId));
+    stringRedisTemplate.opsForSet().remove(familiesKey(userId), familyId);
+  }
+
+  /**
+   * 사용자의 모든 패밀리를 폐기합니다. 권한 변경, 탈퇴 시 커밋 이후에 호출됩니다.
+   */
+  public void revokeAll(Long userId) {
+    TransactionUtil.runAfterCommit(() -> {
+      String familiesKey = familiesKey(userId);
+      Set<String> familyIds = stringRedisTemplate.opsForSet().members(familiesKey);
+      if (familyIds == null || familyIds.isEmpty()) {
+        return;
+      }
+      List<String> keys = new ArrayList<>(familyIds.size() + 1);
+      keys.add(familiesKey);
+      for (String familyId : familyIds) {
+        keys.add(familyKey(userId, familyId));
+      }
+      Long revoked = stringRedisTemplate.execute(REVOKE_ALL_SCRIPT, keys,
+          familyIds.toArray());
+      log.debug("리프레시 토큰 패밀리 폐기: 사용자 ID {}, {}개", userId, revoked);
+    });
+  }
+
+  private String familyKey(Long userId, String familyId) {
+    return FAMILY_PREFIX + userId + ":" + familyId;
+  }
+
+  private String familiesKey(Long userId) {
+    return FAMILIES_PREFIX + userId;
+  }
+}
@@ -0,0 +1,112 @@
+package heekuu.table.token.service;
+
+import heekuu.table.common.util.RedisLock;
+import heekuu.table.token.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 만료된 refresh_token 행을 주기적으로 정리
+ *
+ * 한 번에 batch-size 건씩 별도 트랜잭션으로 지우고 배치 사이에 쉬어서 긴 잠금을 만들지 않는다.
+ * Redis 잠금으로 한 노드에서만 실행되며, 잠금 TTL 안에 끝나도록 실행 시간을 제한한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenPurgeService {
+
+  private static final String LOCK_NAME = "refresh-token-purge";
+  // 잠금 TTL 은 최대 실행 시간보다 이만큼 길게 잡음
+  private static final long LOCK_MARGIN_MILLIS = 30_000L;
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final RedisLock redisLock;
+  private final int batchSize;
+  private final long pauseMillis;
+  private final long maxDurationMillis;
+
+  private final Counter deletedCounter;
+  private final Timer batchTimer;
+
+  public RefreshTokenPurgeService(RefreshTokenRepository refreshTokenRepository,
+      RedisLock redisLock, MeterRegistry meterRegistry,
+      @Value("${token.purge.batch-size:1000}") int batchSize,
+      @Value("${token.purge.pause-ms:200}") long pauseMillis,
+      @Value("${token.purge.max-duration-ms:300000}") long maxDurationMillis) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.redisLock = redisLock;
+    this.batchSize = batchSize;
+    this.pauseMillis = pauseMillis;
+    this.maxDurationMillis = maxDurationMillis;
+    this.deletedCounter = Counter.builder("refresh_token.purge.deleted")
+        .description("정리된 만료 리프레시 토큰 수")
+        .register(meterRegistry);
+    this.batchTimer = Timer.builder("refresh_token.purge.batch.latency")
+        .description("만료 토큰 삭제 배치 한 번의 소요 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${token.purge.interval-ms:3600000}",
+      initialDelayString = "${token.purge.initial-delay-ms:60000}")
+  public void purgeExpired() {
+    Optional<String> lock = redisLock.tryLock(LOCK_NAME,
+        Duration.ofMillis(maxDurationMillis + LOCK_MARGIN_MILLIS));
+    if (lock.isEmpty()) {
+      log.debug("다른 노드에서 만료 토큰 정리 중");
+      return;
+    }
+
+    try {
+      long total = purge();
+      if (total > 0) {
+        log.info("만료된 리프레시 토큰 {}건 정리", total);
+      }
+    } finally {
+      redisLock.unlock(LOCK_NAME, lock.get());
+    }
+  }
+
+  private long purge() {
+    // 실행 시점 기준으로 고정해서, 정리 중에 만료되는 토큰 때문에 끝나지 않는 일이 없도록 함
+    LocalDateTime now = LocalDateTime.now();
+    long deadline = System.currentTimeMillis() + maxDurationMillis;
+    long total = 0;
+
+    while (System.currentTimeMillis() < deadline) {
+      int deleted;
+      Timer.Sample sample = Timer.start();
+      try {
+        deleted = refreshTokenRepository.deleteExpiredBatch(now, batchSize);
+      } catch (DataAccessException e) {
+        log.warn("만료 토큰 정리 중단: {}", e.getMessage());
+        break;
+      } finally {
+        sample.stop(batchTimer);
+      }
+
+      total += deleted;
+      deletedCounter.increment(deleted);
+      if (deleted < batchSize) {
+        break;
+      }
+
+      try {
+        Thread.sleep(pauseMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,63 @@
+package heekuu.table.token.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * refresh_token 의 token_hash / expires_at 컬럼 도입에 따른 스키마 정리
+ *
+ * 다이제스트가 없는 이전 행은 검증할 수 없으므로 배치로 삭제하고 (해당 사용자는 다시 로그인),
+ * 남은 행이 모두 채워진 뒤 두 컬럼을 NOT NULL 로 바꾼다. 이미 NOT NULL 이면 아무것도 하지 않으므로
+ * 매 기동마다 실행되어도 된다. (token.schema-migration.enabled=false 로 끌 수 있음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "token.schema-migration.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class RefreshTokenSchemaMigration implements ApplicationRunner {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public RefreshTokenSchemaMigration(JdbcTemplate jdbcTemplate,
+      @Value("${token.schema-migration.batch-size:1000}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!hasNullableColumns()) {
+      return;
+    }
+
+    long deleted = 0;
+    int rows;
+    do {
+      rows = jdbcTemplate.update(
+          "DELETE FROM refresh_token WHERE token_hash IS NULL OR expires_at IS NULL LIMIT ?",
+          batchSize);
+      deleted += rows;
+    } while (rows == batchSize);
+    log.info("다이제스트가 없는 이전 리프레시 토큰 {}건 삭제", deleted);
+
+    jdbcTemplate.execute("ALTER TABLE refresh_token "
+        + "MODIFY token_hash VARCHAR(64) NOT NULL, "
+        + "MODIFY expires_at DATETIME(6) NOT NULL");
+    log.info("refresh_token.token_hash, expires_at 컬럼을 NOT NULL 로 변경");
+  }
+
+  private boolean hasNullableColumns() {
+    Integer nullable = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() "
+            + "AND TABLE_NAME = 'refresh_token' AND COLUMN_NAME IN ('token_hash', 'expires_at') "
+            + "AND IS_NULLABLE = 'YES'",
+        Integer.class);
+    return nullable != null && nullable > 0;
+  }
+}
@@ -0,0 +1,31 @@
+package heekuu.table.token.service;
+
+/**
+ * 리프레시 토큰 저장소
+ *
+ * 소유자(사용자 또는 사업자) 당 하나의 토큰만 유지하며, 토큰 원문 대신 SHA-256 다이제스트와
+ * 만료 시각을 저장한다. 구현체는 token.refresh-store 설정(jpa | redis)으로 선택한다.
+ */
+public interface RefreshTokenStore {
+
+  /**
+   * 기존 토큰이 있으면 덮어쓰고, 없으면 새로 저장합니다. (단일 upsert)
+   *
+   * @param ownerKey     사용자 ID 또는 사업자 ID
+   * @param refreshToken 리프레시 토큰 원문
+   * @param ttlMillis    유효시간 (밀리초)
+   */
+  void save(Long ownerKey, String refreshToken, long ttlMillis);
+
+  /**
+   * 저장된 토큰이 만료되지 않았고 전달된 토큰과 일치하는지 확인합니다.
+   */
+  boolean matches(Long ownerKey, String refreshToken);
+
+  /**
+   * 저장된 토큰을 삭제합니다.
+   *
+   * @return 삭제된 토큰이 있었으면 true
+   */
+  boolean delete(Long ownerKey);
+}
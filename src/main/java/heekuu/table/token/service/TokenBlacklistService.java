@@ -0,0 +1,188 @@
+package heekuu.table.token.service;
+
+import heekuu.table.common.event.ClusterEventBus;
+import heekuu.table.common.util.BloomFilter;
+import heekuu.table.common.util.HashUtil;
+import heekuu.table.jwt.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그아웃된 Access Token 블랙리스트 (Redis BLACKLIST:<token>)
+ *
+ * 대부분의 토큰은 폐기되지 않았으므로, 노드 로컬 Bloom 필터가 "없음" 이라고 답하면 Redis 를
+ * 조회하지 않는다. 필터는 주기적으로 BLACKLIST:* 를 SCAN 해서 다시 만들고, 그 사이에 폐기된
+ * 토큰은 token-revocations 채널로 모든 노드에 바로 전파된다.
+ */
+@Slf4j
+@Service
+public class TokenBlacklistService {
+
+  private static final String BLACKLIST_PREFIX = "BLACKLIST:";
+  private static final String REVOCATION_CHANNEL = "token-revocations";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final ClusterEventBus clusterEventBus;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+
+  private final Object filterLock = new Object();
+  private volatile BloomFilter filter;
+  // 첫 재구성이 끝나기 전에는 필터를 믿을 수 없으므로 항상 Redis 를 조회
+  private volatile boolean ready;
+  // 재구성 중에 전파된 폐기 토큰, 새 필터로 교체할 때 함께 반영
+  private List<byte[]> pendingDuringRebuild;
+
+  private final LongAdder bloomNegatives = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+  private final LongAdder revokedHits = new LongAdder();
+
+  public TokenBlacklistService(RedisTemplate<String, Object> redisTemplate,
+      VerifiedTokenCache verifiedTokenCache, ClusterEventBus clusterEventBus,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+      @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+    this.redisTemplate = redisTemplate;
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.clusterEventBus = clusterEventBus;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+    FunctionCounter.builder("jwt.blacklist.bloom.negatives", bloomNegatives, LongAdder::sum)
+        .description("Bloom 필터만으로 폐기되지 않았다고 판단한 횟수")
+        .register(meterRegistry);
+    FunctionCounter.builder("jwt.blacklist.bloom.false_positives", falsePositives, LongAdder::sum)
+        .description("Bloom 필터 양성이지만 Redis 에 없던 횟수")
+        .register(meterRegistry);
+    FunctionCounter.builder("jwt.blacklist.revoked_hits", revokedHits, LongAdder::sum)
+        .description("폐기된 토큰으로 요청한 횟수")
+        .register(meterRegistry);
+    Gauge.builder("jwt.blacklist.bloom.false_positive_rate", this,
+            TokenBlacklistService::observedFalsePositiveRate)
+        .description("관측된 거짓 양성 비율")
+        .register(meterRegistry);
+    Gauge.builder("jwt.blacklist.bloom.estimated_false_positive_rate", this,
+            service -> service.filter.estimatedFalsePositiveRate())
+        .description("비트 채움 비율로 추정한 거짓 양성 확률")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    clusterEventBus.subscribe(REVOCATION_CHANNEL, digestHex -> {
+      addToFilter(HexFormat.of().parseHex(digestHex));
+      verifiedTokenCache.invalidateDigest(digestHex);
+    });
+  }
+
+  /**
+   * 토큰을 남은 유효시간 동안 블랙리스트에 올리고, 모든 노드의 필터와 검증 캐시에 반영합니다.
+   *
+   * @param accessToken 폐기할 Access Token
+   * @param ttlMillis   남은 유효시간 (밀리초)
+   */
+  public void revoke(String accessToken, long ttlMillis) {
+    if (ttlMillis > 0) {
+      redisTemplate.opsForValue().set(
+          BLACKLIST_PREFIX + accessToken,
+          "logout",
+          ttlMillis,
+          TimeUnit.MILLISECONDS
+      );
+      log.debug("Access Token이 블랙리스트에 추가되었습니다.");
+
+      // Redis 에 기록한 뒤에 전파해야 재구성 중인 노드의 SCAN 에서 누락되지 않음
+      byte[] digest = HashUtil.sha256(accessToken);
+      addToFilter(digest);
+      clusterEventBus.publish(REVOCATION_CHANNEL, HexFormat.of().formatHex(digest));
+    }
+    verifiedTokenCache.invalidate(accessToken);
+  }
+
+  public boolean isRevoked(String accessToken) {
+    if (ready && !filter.mightContain(HashUtil.sha256(accessToken))) {
+      bloomNegatives.increment();
+      return false;
+    }
+
+    boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + accessToken));
+    if (revoked) {
+      revokedHits.increment();
+    } else if (ready) {
+      falsePositives.increment();
+    }
+    return revoked;
+  }
+
+  /**
+   * 만료된 블랙리스트 키가 필터에 계속 남지 않도록 현재 키 기준으로 필터를 다시 만듭니다.
+   * 기동 직후 한 번 실행되어 필터를 사용 가능 상태로 만듭니다.
+   */
+  @Scheduled(fixedDelayString = "${jwt.blacklist.bloom.rebuild-interval-ms:300000}")
+  public void rebuildFilter() {
+    synchronized (filterLock) {
+      pendingDuringRebuild = new ArrayList<>();
+    }
+
+    List<byte[]> digests = new ArrayList<>();
+    try {
+      ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000)
+          .build();
+      try (Cursor<String> cursor = redisTemplate.scan(options)) {
+        while (cursor.hasNext()) {
+          digests.add(HashUtil.sha256(cursor.next().substring(BLACKLIST_PREFIX.length())));
+        }
+      }
+    } catch (RuntimeException e) {
+      synchronized (filterLock) {
+        pendingDuringRebuild = null;
+      }
+      log.warn("블랙리스트 Bloom 필터 재구성 실패, 기존 필터 유지: {}", e.getMessage());
+      return;
+    }
+
+    synchronized (filterLock) {
+      // 키 수가 설정값을 넘으면 거짓 양성 확률을 유지하도록 여유 있게 크기를 늘림
+      BloomFilter rebuilt = BloomFilter.create(
+          Math.max(expectedInsertions, digests.size() * 2L), falsePositiveRate);
+      digests.forEach(rebuilt::put);
+      pendingDuringRebuild.forEach(rebuilt::put);
+      pendingDuringRebuild = null;
+      filter = rebuilt;
+      ready = true;
+    }
+    log.debug("블랙리스트 Bloom 필터 재구성 완료: 키 {}개", digests.size());
+  }
+
+  private void addToFilter(byte[] digest) {
+    synchronized (filterLock) {
+      filter.put(digest);
+      if (pendingDuringRebuild != null) {
+        pendingDuringRebuild.add(digest);
+      }
+    }
+  }
+
+  // 거짓 양성 / (거짓 양성 + 음성), Bloom 필터는 거짓 음성이 없으므로 음성은 모두 참 음성
+  private double observedFalsePositiveRate() {
+    long fp = falsePositives.sum();
+    long total = fp + bloomNegatives.sum();
+    return total == 0 ? 0.0 : (double) fp / total;
+  }
+}
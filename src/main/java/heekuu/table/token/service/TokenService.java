@@ -1,16 +1,15 @@
 package heekuu.table.token.service;
 
 import heekuu.table.config.TokenConfig;
+import heekuu.table.jwt.dto.VerifiedToken;
 import heekuu.table.jwt.util.JWTUtil;
-import heekuu.table.token.entity.RefreshToken;
-import heekuu.table.token.repository.RefreshTokenRepository;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,7 +17,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 
 @RequiredArgsConstructor
@@ -28,12 +26,13 @@ public class TokenService {   // 리프레시 토큰 발급 및 관리
 
   private final JWTUtil jwtUtil;
   private final UserRepository userRepository;
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenStore refreshTokenStore;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
 
 
 
 
-  @Transactional
+  // 재발급은 DB 트랜잭션 없이 처리 (패밀리 토큰은 Redis 호출 1회)
   public ResponseEntity<?> reissueToken(HttpServletRequest request, HttpServletResponse response) {
     String refresh = extractRefreshTokenFromCookies(request);
 
@@ -44,47 +43,94 @@ public class TokenService {   // 리프레시 토큰 발급 및 관리
 
     // 리프레시 토큰 만료 확인
     try {
-      if (jwtUtil.isExpired(refresh)) {
-        log.warn("Refresh token expired for token: {}", refresh);
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token expired");
-      }
-
-      // 토큰이 refresh인지 확인
+      // 서명 검증은 한 번만 수행
+      VerifiedToken token = jwtUtil.verify(refresh);
 
-      if (!isRefreshToken(refresh) || !refreshTokenRepository.existsByRefresh(refresh)) {
-        log.warn("Invalid refresh token: {}", refresh);
+      if (!token.isRefreshToken() || token.getUserId() == null) {
+        log.warn("Invalid refresh token for user ID: {}", token.getUserId());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
       }
 
-    // DB에 저장되어 있는지 확인
-    if (!refreshTokenRepository.existsByRefresh(refresh)) {
-      return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
+      if (token.getFamilyId() != null) {
+        return rotateFamilyToken(token, refresh, response);
+      }
+      return reissueLegacyToken(token, refresh, response);
+    } catch (ExpiredJwtException e) {
+      log.warn("Refresh token expired for token: {}", refresh);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token expired");
+    } catch (JwtException e) {
+      log.warn("Invalid refresh token: {}", refresh);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
+    } catch (Exception e) {
+      log.error("Error reissuing token", e);
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Token reissue failed");
+    }
+  }
+
+  /**
+   * 패밀리 토큰 재발급. 새 토큰은 검증된 클레임으로 만들고, 교체는 Lua CAS 한 번으로 끝난다.
+   * 권한 변경 시 패밀리가 모두 폐기되므로 패밀리가 살아 있으면 클레임의 권한/버전이 최신이다.
+   */
+  private ResponseEntity<?> rotateFamilyToken(VerifiedToken token, String refresh,
+      HttpServletResponse response) {
+    Long userId = token.getUserId();
+    String newRefresh = jwtUtil.createJwt("refresh", token); // 같은 패밀리, 7일
+
+    switch (refreshTokenFamilyService.rotate(userId, token.getFamilyId(), refresh, newRefresh)) {
+      case ROTATED: {
+        String newAccess = jwtUtil.createJwt("access", token); // 1시간
+        response.setHeader("access", newAccess);
+        response.addCookie(createCookie("refresh", newRefresh));
+        return new ResponseEntity<>(newAccess, HttpStatus.OK);
+      }
+      case CONCURRENT: {
+        // 동시에 들어온 다른 요청이 이미 회전함, Access Token 만 새로 발급
+        String newAccess = jwtUtil.createJwt("access", token);
+        response.setHeader("access", newAccess);
+        return new ResponseEntity<>(newAccess, HttpStatus.OK);
+      }
+      case REUSED:
+        log.warn("Refresh token reuse detected for user ID: {}", userId);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token reuse detected");
+      default:
+        log.warn("Unknown or revoked refresh token family for user ID: {}", userId);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
     }
+  }
 
-      // 유저 정보 확인 및 새로운 토큰 발급
-      Long userId = jwtUtil.getUserId(refresh);
-      String role = jwtUtil.getRole(refresh);
-      User user = userRepository.findById(userId)
-          .orElseThrow(() -> new RuntimeException("User not found"));
+  // fid 클레임이 없는 이전 토큰은 저장소와 DB 로 확인한 뒤 패밀리 토큰으로 전환
+  private ResponseEntity<?> reissueLegacyToken(VerifiedToken token, String refresh,
+      HttpServletResponse response) {
+    Long userId = token.getUserId();
+    if (!refreshTokenStore.matches(userId, refresh)) {
+      log.warn("Refresh token does not match the stored token for user ID: {}", userId);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
+    }
 
-      // 새로운 access 및 refresh 토큰 발급
-      String newAccess = jwtUtil.createJwt("access", user, role);// 1시간
-      String newRefresh = jwtUtil.createJwt("refresh", user, role); // 7일
+    // 유저 정보 확인 및 새로운 토큰 발급
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new RuntimeException("User not found"));
 
+    // 권한 변경 등으로 보안 버전이 올라간 경우 이전 리프레시 토큰은 사용 불가
+    if (token.getSecurityVersion() != null
+        && token.getSecurityVersion() < user.getSecurityVersion()) {
+      log.warn("Stale refresh token for user ID: {}", userId);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
+    }
+    String role = user.getRole().name(); // 토큰이 아닌 현재 권한 기준으로 발급
 
-      //기존 refresh 토큰 업데이트
-      updateRefreshToken(user, newRefresh);
+    // 새로운 access 및 refresh 토큰 발급
+    String newAccess = jwtUtil.createJwt("access", user, role);// 1시간
+    String newRefresh = refreshTokenFamilyService.issue(user, role); // 7일, 새 패밀리
 
+    // 이전 토큰은 한 번만 전환 가능, 새 토큰은 패밀리로만 검증하므로 저장소 행은 지운다
+    refreshTokenStore.delete(userId);
 
-      // 갱신된 토큰을 응답으로 전송
-      response.setHeader("access", newAccess);
-      response.addCookie(createCookie("refresh", newRefresh));
+    // 갱신된 토큰을 응답으로 전송
+    response.setHeader("access", newAccess);
+    response.addCookie(createCookie("refresh", newRefresh));
 
-      return new ResponseEntity<>(newAccess, HttpStatus.OK);
-    } catch (Exception e) {
-      log.error("Error reissuing token", e);
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Token reissue failed");
-    }
+    return new ResponseEntity<>(newAccess, HttpStatus.OK);
   }
 
   // 쿠키에서 refresh 토큰 추출
@@ -110,35 +156,6 @@ public class TokenService {   // 리프레시 토큰 발급 및 관리
       return true;
     }
   }
-  // 리프레시 토큰 여부 확인
-  private boolean isRefreshToken(String token) {
-    // JWTUtil에서 토큰 타입을 확인하여 리프레시 토큰인지 확인
-    return "refresh".equals(jwtUtil.getTokenType(token));
-  }
-
-  // Refresh 토큰 저장 및 업데이트
-  private void updateRefreshToken(User user, String refreshToken) {
-    long expiredMs = jwtUtil.getRefreshTokenExpiration();
-    Date expirationDate = new Date(System.currentTimeMillis() + expiredMs);
-
-    // 기존 리프레시 토큰 존재 여부 확인
-    RefreshToken refreshTokenEntity = refreshTokenRepository
-        .findByUser_UserId(user.getUserId()) // user_id로 기존 리프레시 토큰 조회
-        .orElseGet(() -> {
-          // 리프레시 토큰이 없다면 새로 생성
-          RefreshToken newToken = new RefreshToken();
-          newToken.setUser(user);
-          return newToken;
-        });
-
-    // 리프레시 토큰과 만료일자 업데이트
-    refreshTokenEntity.setRefresh(refreshToken);
-    refreshTokenEntity.setExpiration(expirationDate.toString());
-
-    // 저장
-    refreshTokenRepository.save(refreshTokenEntity); // 존재하는 경우 업데이트, 없으면 새로 추가
-  }
-
   // 쿠키 생성 메서드
   private Cookie createCookie(String key, String value) {
     Cookie cookie = new Cookie(key, value);
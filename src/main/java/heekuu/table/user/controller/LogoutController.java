@@ -1,7 +1,9 @@
 package heekuu.table.user.controller;
 
+import heekuu.table.jwt.dto.VerifiedToken;
 import heekuu.table.jwt.util.JWTUtil;
-import heekuu.table.token.repository.RefreshTokenRepository;
+import heekuu.table.token.service.RefreshTokenFamilyService;
+import heekuu.table.token.service.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +20,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/users") // 기본 경로 설정
 public class LogoutController {
 
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenStore refreshTokenStore;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
   private final JWTUtil jwtUtil;
 
   @DeleteMapping("/logout")
@@ -38,14 +41,23 @@ public class LogoutController {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Refresh token is expired");
     }
 
-    // DB에서 Refresh 토큰 존재 여부 확인
-    if (!refreshTokenRepository.existsByRefresh(refresh)) {
+    // 저장소에서 Refresh 토큰 존재 여부 확인 (패밀리 토큰은 패밀리의 현재 토큰과 비교)
+    VerifiedToken token = jwtUtil.verify(refresh);
+    Long userId = token.getUserId();
+    String familyId = token.getFamilyId();
+    boolean exists = familyId != null
+        ? refreshTokenFamilyService.isCurrent(userId, familyId, refresh)
+        : userId != null && refreshTokenStore.matches(userId, refresh);
+    if (!exists) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Refresh token does not exist");
     }
 
-    // Refresh 토큰 DB에서 제거
-    Long userId = jwtUtil.getUserId(refresh);
-    refreshTokenRepository.deleteByUserId(userId);
+    // Refresh 토큰 저장소에서 제거
+    if (familyId != null) {
+      refreshTokenFamilyService.revoke(userId, familyId);
+    } else {
+      refreshTokenStore.delete(userId);
+    }
 
     // 쿠키 삭제
      deleteRefreshCookie(response);
@@ -1,6 +1,7 @@
 // UserResponseDTO.java
 package heekuu.table.user.dto;
 
+import heekuu.table.user.type.Role;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,4 +19,13 @@ public class UserResponseDTO {
   private String role;
   private CountDTO count;
 
+  // JPQL 생성자 projection 용 (UserRepository.findUserResponses)
+  public UserResponseDTO(Long userId, String username, String email, String nickname, Role role) {
+    this.userId = userId;
+    this.username = username;
+    this.email = email;
+    this.nickname = nickname;
+    this.role = role != null ? role.toString() : null;
+  }
+
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
@@ -33,7 +34,10 @@ import lombok.Setter;
 @NoArgsConstructor
 @Entity
 @Builder
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    // 소셜 로그인 시 (loginType, providerId) 단건 조회용
+    @Index(name = "idx_users_login_type_provider_id", columnList = "login_type, provider_id")
+})
 public class User extends BaseEntity {
 
   @Id
@@ -85,4 +89,8 @@ public class User extends BaseEntity {
 
   private String providerId; // 소셜 로그인 ID
 
+  // 권한 변경 시 증가하는 보안 버전, 토큰의 ver 클레임과 비교
+  @Column(name = "security_version", nullable = false)
+  private long securityVersion;
+
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package heekuu.table.user.repository;
 
+import heekuu.table.user.dto.UserResponseDTO;
 import heekuu.table.user.entity.User;
+import heekuu.table.user.type.LoginType;
 import heekuu.table.user.type.Role;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
@@ -14,6 +19,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 소셜로그인사용자
     Optional<User> findByEmail(String email); // 이메일로 사용자 검색
     Optional<User> findByProviderId(String providerId); // 소셜 로그인용 provider ID로 검색
+    Optional<User> findByLoginTypeAndProviderId(LoginType loginType, String providerId); // 소셜 식별자로 단건 검색
 
     boolean existsByUsername(String username);
     Page<User> findAllByRole(Role role, Pageable pageable);
@@ -25,6 +31,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(Long userId);// 메서드 이름을 카멜케이스로 변경
     Optional<User> findByUsername(String username);
 
+    // 목록/상세 응답에 필요한 컬럼만 조회 (연관관계와 비밀번호는 읽지 않음)
+    String USER_RESPONSE_SELECT = "SELECT new heekuu.table.user.dto.UserResponseDTO("
+        + "u.userId, u.username, u.email, u.nickname, u.role) FROM User u";
+
+    @Query(USER_RESPONSE_SELECT)
+    List<UserResponseDTO> findUserResponses();
+
+    @Query(USER_RESPONSE_SELECT + " WHERE u.userId = :userId")
+    Optional<UserResponseDTO> findUserResponseById(@Param("userId") Long userId);
+
+    // 보안 버전만 조회 (User 전체 로딩 없이)
+    @Query("SELECT u.securityVersion FROM User u WHERE u.userId = :userId")
+    Optional<Long> findSecurityVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * base 로 시작하는 username 중 base 자체면 0, base + 숫자면 그 숫자의 최댓값, 없으면 -1.
+     * LIKE 'base%' 조건으로 username 유니크 인덱스의 범위만 읽는다.
+     */
+    @Query(value = "SELECT COALESCE(MAX(CASE WHEN u.username = :base THEN 0 "
+        + "ELSE CAST(SUBSTRING(u.username, :suffixStart) AS UNSIGNED) END), -1) "
+        + "FROM users u WHERE u.username LIKE :pattern ESCAPE '!' "
+        + "AND (u.username = :base OR SUBSTRING(u.username, :suffixStart) REGEXP '^[0-9]+$')",
+        nativeQuery = true)
+    Long findMaxUsernameSuffix(@Param("base") String base, @Param("pattern") String pattern,
+        @Param("suffixStart") int suffixStart);
+
 
 
 }
\ No newline at end of file
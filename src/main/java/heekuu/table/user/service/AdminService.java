@@ -1,5 +1,6 @@
 package heekuu.table.user.service;
 
+import heekuu.table.token.service.RefreshTokenFamilyService;
 import heekuu.table.user.dto.AdminUpdateRequestDTO;
 import heekuu.table.user.dto.UserResponseDTO;
 
@@ -8,7 +9,6 @@ import heekuu.table.user.repository.UserRepository;
 import heekuu.table.user.type.Role;
 
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,38 +19,22 @@ public class AdminService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserSecurityVersionService userSecurityVersionService;
+  private final UserPrincipalCache userPrincipalCache;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
 
 
   // 모든 사용자 조회 (Admin 전용)
   @PreAuthorize("hasAuthority('ADMIN')")
   public List<UserResponseDTO> getAllUsers() {
-    List<User> users = userRepository.findAll();
-    return users.stream().map(user -> {
-      UserResponseDTO dto = new UserResponseDTO();
-      dto.setUserId(user.getUserId());
-      dto.setUsername(user.getUsername());
-      dto.setEmail(user.getEmail());
-      dto.setNickname(user.getNickname());
-      dto.setRole(user.getRole().toString());
-      return dto;
-    }).toList();
+    return userRepository.findUserResponses();
   }
 
   // 특정 사용자 정보 조회 (Admin 전용)
   @PreAuthorize("hasAuthority('ADMIN')")
   public UserResponseDTO getUserById(Long userId) {
-    Optional<User> userOptional = userRepository.findById(userId);
-    if (userOptional.isEmpty()) {
-      throw new RuntimeException("User not found with ID: " + userId);
-    }
-    User user = userOptional.get();
-    UserResponseDTO dto = new UserResponseDTO();
-    dto.setUserId(user.getUserId());
-    dto.setUsername(user.getUsername());
-    dto.setEmail(user.getEmail());
-    dto.setNickname(user.getNickname());
-    dto.setRole(user.getRole().toString());
-    return dto;
+    return userRepository.findUserResponseById(userId)
+        .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
   }
 
   // 사용자 권한 변경 (Admin 전용)
@@ -59,7 +43,8 @@ public class AdminService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
     user.setRole(role.equals("ADMIN") ? Role.ADMIN : Role.USER);
-    userRepository.save(user);
+    userSecurityVersionService.bump(user); // 이전 권한의 토큰 무효화 (저장 포함)
+    userPrincipalCache.evict(userId);
 
     UserResponseDTO dto = new UserResponseDTO();
     dto.setUserId(user.getUserId());
@@ -86,6 +71,7 @@ public class AdminService {
     }
 
     userRepository.save(user); // 변경된 사용자 정보 저장
+    userPrincipalCache.evict(userId);
 
     // 수정된 사용자 정보를 반환
     UserResponseDTO userResponseDTO = new UserResponseDTO();
@@ -101,6 +87,8 @@ public class AdminService {
   @PreAuthorize("hasAuthority('ADMIN')")
   public void deleteUser(Long userId) {
     userRepository.deleteById(userId);
+    refreshTokenFamilyService.revokeAll(userId);
+    userPrincipalCache.evict(userId);
 
   }
 }
\ No newline at end of file
@@ -5,16 +5,20 @@ import heekuu.table.user.dto.CustomUserDetails;
 import heekuu.table.user.entity.User;
 import heekuu.table.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   @Autowired
   private PasswordEncoder passwordEncoder;
@@ -31,5 +35,18 @@ public class CustomUserDetailsService implements UserDetailsService {
     return new CustomUserDetails(user);
 
   }
-}
 
+  /**
+   * 로그인 성공 시 저장된 해시의 strength 가 현재 설정보다 낮으면 호출되어 새 비용으로 재해시된
+   * 비밀번호를 저장합니다. (DaoAuthenticationProvider 가 upgradeEncoding 확인 후 호출)
+   */
+  @Override
+  @Transactional
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    User user = ((CustomUserDetails) userDetails).getUser();
+    user.setPassword(newPassword);
+    userRepository.save(user);
+    log.debug("비밀번호 재해시 완료: 사용자 ID {}", user.getUserId());
+    return new CustomUserDetails(user);
+  }
+}
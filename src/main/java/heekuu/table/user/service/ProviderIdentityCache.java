@@ -0,0 +1,40 @@
+package heekuu.table.user.service;
+
+import heekuu.table.common.util.TtlCache;
+import heekuu.table.user.type.LoginType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소셜 로그인 식별자(loginType, providerId) → userId 단기 캐시
+ *
+ * 식별자와 userId 의 매핑은 가입 이후 바뀌지 않으므로 무효화 없이 짧은 TTL 로만 관리한다.
+ * 탈퇴로 사라진 userId 는 조회하는 쪽에서 evict() 한다.
+ */
+@Component
+public class ProviderIdentityCache {
+
+  private final TtlCache<String, Long> identities;
+
+  public ProviderIdentityCache(@Value("${oauth.identity-cache.ttl-ms:300000}") long ttlMillis,
+      @Value("${oauth.identity-cache.max-size:10000}") int maxSize) {
+    this.identities = new TtlCache<>(ttlMillis, maxSize);
+  }
+
+  public Long get(LoginType loginType, String providerId) {
+    return identities.get(key(loginType, providerId));
+  }
+
+  // 가득 차 있으면 캐시하지 않고 DB 조회로 처리
+  public void put(LoginType loginType, String providerId, Long userId) {
+    identities.put(key(loginType, providerId), userId);
+  }
+
+  public void evict(LoginType loginType, String providerId) {
+    identities.evict(key(loginType, providerId));
+  }
+
+  private String key(LoginType loginType, String providerId) {
+    return loginType.name() + ":" + providerId;
+  }
+}
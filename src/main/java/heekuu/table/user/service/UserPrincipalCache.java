@@ -0,0 +1,164 @@
+package heekuu.table.user.service;
+
+import heekuu.table.common.event.ClusterEventBus;
+import heekuu.table.common.util.TransactionUtil;
+import heekuu.table.user.dto.CustomUserDetails;
+import heekuu.table.user.entity.User;
+import heekuu.table.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * userId 기준 CustomUserDetails 노드 로컬 read-through 캐시
+ *
+ * 사용자 정보가 바뀌면 evict() 가 커밋 이후 ClusterEventBus 로 모든 노드에 무효화를 전파한다.
+ * 전파가 유실되더라도 엔트리는 TTL 이 지나면 다시 조회된다.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+  static final String INVALIDATION_CHANNEL = "user-principal-invalidation";
+
+  private final UserRepository userRepository;
+  private final ClusterEventBus clusterEventBus;
+  private final long ttlMillis;
+  private final int maxSize;
+
+  private final Map<Long, CachedPrincipal> principals = new ConcurrentHashMap<>();
+  private final Map<String, Long> userIdsByUsername = new ConcurrentHashMap<>();
+  // 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않기 위한 세대 값
+  private final AtomicLong generation = new AtomicLong();
+
+  public UserPrincipalCache(UserRepository userRepository, ClusterEventBus clusterEventBus,
+      @Value("${user.principal-cache.ttl-ms:60000}") long ttlMillis,
+      @Value("${user.principal-cache.max-size:10000}") int maxSize) {
+    this.userRepository = userRepository;
+    this.clusterEventBus = clusterEventBus;
+    this.ttlMillis = ttlMillis;
+    this.maxSize = maxSize;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    clusterEventBus.subscribe(INVALIDATION_CHANNEL, message -> evictLocal(Long.valueOf(message)));
+  }
+
+  /**
+   * 캐시에서 사용자 정보를 조회하고, 없으면 DB 에서 읽어 채웁니다.
+   *
+   * @param userId 사용자 ID
+   * @return 사용자 정보, 존재하지 않으면 empty
+   */
+  public Optional<CustomUserDetails> get(Long userId) {
+    CachedPrincipal cached = principals.get(userId);
+    if (cached != null && !cached.isExpired()) {
+      return Optional.of(cached.principal());
+    }
+
+    return load(() -> userRepository.findByUserId(userId));
+  }
+
+  // 소셜 로그인 principal 처럼 username 만 알고 있는 경우
+  public Optional<CustomUserDetails> getByUsername(String username) {
+    Long userId = userIdsByUsername.get(username);
+    if (userId != null) {
+      CachedPrincipal cached = principals.get(userId);
+      if (cached != null && !cached.isExpired()) {
+        return Optional.of(cached.principal());
+      }
+    }
+
+    return load(() -> userRepository.findByUsername(username));
+  }
+
+  /**
+   * 호출자가 이미 User 를 조회해야 하는 경우(예: 소셜 식별자 조회) 그 결과로 캐시를 채웁니다.
+   * 조회 도중 무효화가 일어났으면 결과를 캐시하지 않습니다.
+   *
+   * @param loader 사용자 조회 함수
+   * @return 사용자 정보, 존재하지 않으면 empty
+   */
+  public Optional<CustomUserDetails> load(Supplier<Optional<User>> loader) {
+    long observedGeneration = generation.get();
+    return loader.get().map(user -> cache(user, observedGeneration));
+  }
+
+  /**
+   * 모든 노드에서 해당 사용자의 캐시를 제거합니다. 트랜잭션 안에서는 커밋 이후에 전파됩니다.
+   */
+  public void evict(Long userId) {
+    TransactionUtil.runAfterCommit(() -> {
+      evictLocal(userId);
+      clusterEventBus.publish(INVALIDATION_CHANNEL, String.valueOf(userId));
+    });
+  }
+
+  private void evictLocal(Long userId) {
+    generation.incrementAndGet();
+    CachedPrincipal removed = principals.remove(userId);
+    if (removed != null) {
+      userIdsByUsername.remove(removed.principal().getUsername(), userId);
+    }
+    log.debug("사용자 캐시 무효화: 사용자 ID {}", userId);
+  }
+
+  private CustomUserDetails cache(User user, long observedGeneration) {
+    CustomUserDetails principal = new CustomUserDetails(snapshot(user));
+    if (generation.get() != observedGeneration) {
+      // 조회 중에 무효화가 일어났으면 이번 결과만 사용하고 캐시하지 않음
+      return principal;
+    }
+    if (principals.size() >= maxSize) {
+      trim();
+    }
+    principals.put(user.getUserId(),
+        new CachedPrincipal(principal, System.currentTimeMillis() + ttlMillis));
+    userIdsByUsername.put(user.getUsername(), user.getUserId());
+    return principal;
+  }
+
+  // 만료된 엔트리를 먼저 지우고, 그래도 가득 차 있으면 임의의 엔트리를 지워 공간을 확보
+  private void trim() {
+    principals.values().removeIf(CachedPrincipal::isExpired);
+    Iterator<Long> iterator = principals.keySet().iterator();
+    while (principals.size() >= maxSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+    userIdsByUsername.values().removeIf(userId -> !principals.containsKey(userId));
+  }
+
+  /**
+   * 지연 로딩 연관관계와 비밀번호를 제외한 User 사본.
+   * 캐시된 객체가 영속성 컨텍스트 밖의 여러 스레드에서 읽혀도 안전하도록 스칼라 필드만 복사한다.
+   */
+  private User snapshot(User user) {
+    return User.builder()
+        .userId(user.getUserId())
+        .username(user.getUsername())
+        .email(user.getEmail())
+        .nickname(user.getNickname())
+        .role(user.getRole())
+        .totalPoints(user.getTotalPoints())
+        .loginType(user.getLoginType())
+        .providerId(user.getProviderId())
+        .securityVersion(user.getSecurityVersion())
+        .build();
+  }
+
+  private record CachedPrincipal(CustomUserDetails principal, long expiresAt) {
+
+    boolean isExpired() {
+      return expiresAt <= System.currentTimeMillis();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package heekuu.table.user.service;
+
+import heekuu.table.common.util.TransactionUtil;
+import heekuu.table.token.service.RefreshTokenFamilyService;
+import heekuu.table.user.entity.User;
+import heekuu.table.user.repository.UserRepository;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 보안 버전 관리
+ *
+ * 권한 변경 등으로 버전이 올라가면, 이전 버전이 담긴 토큰은 서명이 유효해도 거부된다.
+ * 현재 버전은 Redis 에 캐시되므로 요청마다 User 전체를 조회하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSecurityVersionService {
+
+  private static final String VERSION_PREFIX = "USER_SECURITY_VERSION:";
+  private static final long VERSION_TTL_HOURS = 1;
+
+  private final UserRepository userRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
+
+  /**
+   * 현재 보안 버전을 조회합니다. Redis 에 없으면 DB 에서 버전 컬럼만 읽어 채워 넣습니다.
+   *
+   * @param userId 사용자 ID
+   * @return 현재 보안 버전, 사용자가 없으면 null
+   */
+  public Long getCurrentVersion(Long userId) {
+    String key = VERSION_PREFIX + userId;
+    Object cached = redisTemplate.opsForValue().get(key);
+    if (cached instanceof Number number) {
+      return number.longValue();
+    }
+
+    Long version = userRepository.findSecurityVersionByUserId(userId).orElse(null);
+    if (version != null) {
+      // 동시에 bump 된 값을 덮어쓰지 않도록 비어 있을 때만 기록
+      redisTemplate.opsForValue().setIfAbsent(key, version, VERSION_TTL_HOURS, TimeUnit.HOURS);
+    }
+    return version;
+  }
+
+  /**
+   * 보안 버전을 올리고 저장합니다. 커밋 이후 Redis 캐시도 새 버전으로 갱신하고,
+   * 이전 권한이 담긴 리프레시 토큰 패밀리를 모두 폐기합니다.
+   *
+   * @param user 버전을 올릴 사용자
+   */
+  public void bump(User user) {
+    long newVersion = user.getSecurityVersion() + 1;
+    user.setSecurityVersion(newVersion);
+    userRepository.save(user);
+
+    Long userId = user.getUserId();
+    TransactionUtil.runAfterCommit(() -> {
+      redisTemplate.opsForValue().set(VERSION_PREFIX + userId, newVersion,
+          VERSION_TTL_HOURS, TimeUnit.HOURS);
+      log.debug("보안 버전 갱신: 사용자 ID {}, 버전 {}", userId, newVersion);
+    });
+    refreshTokenFamilyService.revokeAll(userId);
+  }
+}
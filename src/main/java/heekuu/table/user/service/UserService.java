@@ -20,7 +20,5 @@ public interface UserService {
 
   UserResponseDTO updateUserRole(Long userId, String newRole, String refresh);
 
-  void addRefreshTokenPublic(User user, String refreshToken, Long expiredMs);
-
   void deleteUser();
 }
\ No newline at end of file
@@ -5,8 +5,7 @@ import heekuu.table.OAuth.dto.CustomOauth2User;
 import heekuu.table.answer.repository.AnswerRepository;
 import heekuu.table.jwt.util.JWTUtil;
 import heekuu.table.questions.repository.QuestionRepository;
-import heekuu.table.token.entity.RefreshToken;
-import heekuu.table.token.repository.RefreshTokenRepository;
+import heekuu.table.token.service.RefreshTokenFamilyService;
 import heekuu.table.user.dto.CountDTO;
 import heekuu.table.user.dto.CustomUserDetails;
 import heekuu.table.user.dto.LoginDTO;
@@ -18,7 +17,6 @@ import heekuu.table.user.repository.CountRepository;
 import heekuu.table.user.repository.UserRepository;
 import heekuu.table.user.type.LoginType;
 import heekuu.table.user.type.Role;
-import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -39,11 +37,13 @@ public class UserServiceImpl implements UserService {
   private final UserRepository userRepository;
   private final BCryptPasswordEncoder passwordEncoder; // 비밀번호 암호화를 위한 인코더 추가
   private final JWTUtil jwtUtil;
-  private final RefreshTokenRepository refreshTokenRepository; // 리프레시 토큰 저장소 추가
+  private final RefreshTokenFamilyService refreshTokenFamilyService;
   //private final QuestionRepository questionRepository;
   //private final AnswerRepository answerRepository;
   //private final CountRepository countRepository;
   private final CountService countService;
+  private final UserSecurityVersionService userSecurityVersionService;
+  private final UserPrincipalCache userPrincipalCache;
 
 
   @Value("${spring.jwt.access-token-expiration}")
@@ -64,17 +64,12 @@ public class UserServiceImpl implements UserService {
       throw new RuntimeException("Invalid credentials");
     }
 
-    // 기존 리프레시 토큰 삭제
-    refreshTokenRepository.deleteByUserId(user.getUserId());
-    log.warn("기존 리프레시 토큰 삭제: 사용자 ID {}", user.getUserId());
-
     // 새 액세스 토큰 생성
     String role = user.getRole().toString();
     String accessToken = jwtUtil.createJwt("access", user, role);
 
-    // 새 리프레시 토큰 생성 및 저장
-    String refreshToken = jwtUtil.createJwt("refresh", user, role); // 7일 유효
-    addRefreshToken(user, refreshToken, 604800000L);
+    // 새 리프레시 토큰 발급 (패밀리 저장소에만 기록)
+    refreshTokenFamilyService.issue(user, role); // 7일 유효, 새 패밀리
 
     log.info("로그인 성공: 사용자 {} (새로운 토큰 발급 완료)", user.getUsername());
     return accessToken;
@@ -105,11 +100,9 @@ public class UserServiceImpl implements UserService {
       } else if (authentication.getPrincipal() instanceof CustomOauth2User) {
         // 소셜 로그인 사용자일 경우, CustomOauth2User로 캐스팅하여 소셜 로그인 사용자 정보 조회
         CustomOauth2User oauthUser = (CustomOauth2User) authentication.getPrincipal();
-        User user = userRepository.findByUsername(oauthUser.getName())
+        // 캐시에 없을 때만 DB 에서 조회
+        return userPrincipalCache.getByUsername(oauthUser.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // DB에서 조회된 User 객체로 CustomUserDetails 생성하여 반환
-        return new CustomUserDetails(user); // User 객체를 직접 전달하여 생성자와 일치
       }
     }
     throw new RuntimeException("User not authenticated");
@@ -125,20 +118,11 @@ public class UserServiceImpl implements UserService {
   @Override
   public UserResponseDTO getLoggedInUser() {
     CustomUserDetails userDetails = getLoggedInUserDetails();
-    User user = userRepository.findByUserId(userDetails.getUserId())
+    UserResponseDTO userResponse = userRepository.findUserResponseById(userDetails.getUserId())
         .orElseThrow(() -> new RuntimeException("User not found"));
 
     // CountService를 통해 CountDTO 가져오기
-    CountDTO countDTO = countService.getCountForUser(user.getUserId());
-
-    // UserResponseDTO로 반환
-    UserResponseDTO userResponse = new UserResponseDTO();
-    userResponse.setUserId(user.getUserId());
-    userResponse.setUsername(user.getUsername());
-    userResponse.setEmail(user.getEmail());
-    userResponse.setNickname(user.getNickname());
-    userResponse.setRole(user.getRole().toString());
-
+    CountDTO countDTO = countService.getCountForUser(userResponse.getUserId());
     userResponse.setCount(countDTO);
 
     return userResponse;
@@ -162,6 +146,7 @@ public class UserServiceImpl implements UserService {
     }
 
     user = userRepository.save(user); // 업데이트된 사용자 정보 저장
+    userPrincipalCache.evict(user.getUserId());
 
     // CountService를 통해 CountDTO 가져오기
     CountDTO countDTO = countService.getCountForUser(user.getUserId());
@@ -189,14 +174,12 @@ public class UserServiceImpl implements UserService {
 
     // 권한 변경
     user.setRole(Role.valueOf(newRole));
-    userRepository.save(user);  // 변경된 사용자 정보 저장
+    userSecurityVersionService.bump(user);  // 보안 버전 증가 후 저장, 이전 토큰 무효화
+    userPrincipalCache.evict(userId);
 
     // 새로운 액세스 및 리프레시 토큰 발급
     String newAccessToken = jwtUtil.createJwt("access", user, newRole); //1시간
-    String newRefreshToken = jwtUtil.createJwt("refresh", user, newRole); // 7일
-    refreshTokenRepository.deleteByUserId(userId);
-
-    addRefreshToken(user, newRefreshToken, 604800000L); // 새로운 리프레시 토큰 저장
+    refreshTokenFamilyService.issue(user, newRole); // 7일, 새 패밀리
 
     // 업데이트된 정보를 UserResponseDTO로 반환
     UserResponseDTO userResponse = new UserResponseDTO();
@@ -209,22 +192,6 @@ public class UserServiceImpl implements UserService {
     return userResponse;
   }
 
-  @Override
-  @Transactional
-  public void addRefreshTokenPublic(User user, String refreshToken, Long expiredMs) {
-    addRefreshToken(user, refreshToken, expiredMs);
-  }
-
-  private void addRefreshToken(User user, String refreshToken, Long expiredMs) {
-    Date expirationDate = new Date(System.currentTimeMillis() + expiredMs);
-    RefreshToken refreshTokenEntity = new RefreshToken();
-    refreshTokenEntity.setUser(user);
-    refreshTokenEntity.setRefresh(refreshToken);
-    refreshTokenEntity.setExpiration(expirationDate.toString());
-
-    refreshTokenRepository.save(refreshTokenEntity);
-  }
-
   @Override
   @Transactional
   public void deleteUser() {
@@ -233,5 +200,7 @@ public class UserServiceImpl implements UserService {
         .orElseThrow(() -> new RuntimeException("User not found"));
 
     userRepository.delete(user); // 사용자 삭제 204코드
+    refreshTokenFamilyService.revokeAll(user.getUserId());
+    userPrincipalCache.evict(user.getUserId());
   }
 }
\ No newline at end of file
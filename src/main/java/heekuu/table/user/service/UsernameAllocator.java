@@ -0,0 +1,85 @@
+package heekuu.table.user.service;
+
+import heekuu.table.user.entity.User;
+import heekuu.table.user.repository.UserRepository;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소셜 가입 시 이메일 앞부분(base)에 숫자 접미사를 붙여 중복 없는 username 을 할당
+ *
+ * base 별 다음 접미사는 Redis INCR 카운터로 발급하고, 카운터가 없을 때만 username 인덱스를
+ * 이용한 prefix 조회 한 번으로 현재 최대 접미사를 읽어 시드한다. 같은 base 를 쓰는 사용자 수와
+ * 무관하게 조회는 최대 한 번이며, 드물게 남는 경합은 유니크 제약 위반 시 재시도로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsernameAllocator {
+
+  private static final String SEQUENCE_PREFIX = "USERNAME_SEQ:";
+  private static final long SEQUENCE_TTL_HOURS = 24;
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final UserRepository userRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  /**
+   * username 을 할당해 사용자를 저장합니다. 동시 가입으로 같은 username 이 저장되어
+   * 유니크 제약을 위반하면 다음 접미사로 다시 시도합니다.
+   *
+   * @param user  저장할 사용자 (username 제외)
+   * @param email username 의 기준이 되는 이메일
+   * @return 저장된 사용자
+   */
+  public User saveWithUniqueUsername(User user, String email) {
+    String base = email.split("@")[0];
+    for (int attempt = 1; ; attempt++) {
+      user.setUsername(allocate(base));
+      try {
+        return userRepository.saveAndFlush(user);
+      } catch (DataIntegrityViolationException e) {
+        if (attempt >= MAX_ATTEMPTS) {
+          throw e;
+        }
+        log.warn("username 중복으로 재시도: {} ({}회)", user.getUsername(), attempt);
+      }
+    }
+  }
+
+  /**
+   * base 가 비어 있으면 base 를, 아니면 base + 다음 접미사를 반환합니다.
+   */
+  public String allocate(String base) {
+    try {
+      String key = SEQUENCE_PREFIX + base;
+      if (Boolean.FALSE.equals(stringRedisTemplate.hasKey(key))) {
+        // 카운터가 없을 때만 DB 에서 현재 최대 접미사를 읽어 시드 (동시 시드는 먼저 쓴 값 유지)
+        stringRedisTemplate.opsForValue().setIfAbsent(key,
+            String.valueOf(findMaxSuffix(base)), SEQUENCE_TTL_HOURS, TimeUnit.HOURS);
+      }
+      Long next = stringRedisTemplate.opsForValue().increment(key);
+      return format(base, next == null ? findMaxSuffix(base) + 1 : next);
+    } catch (DataAccessException e) {
+      log.warn("username 카운터 사용 불가, DB 조회로 대체: {}", e.getMessage());
+      return format(base, findMaxSuffix(base) + 1);
+    }
+  }
+
+  // base 자체가 사용 중이면 0, 숫자 접미사가 있으면 그 최댓값, 아무것도 없으면 -1
+  private long findMaxSuffix(String base) {
+    String pattern = base.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    int suffixStart = base.codePointCount(0, base.length()) + 1;
+    Long max = userRepository.findMaxUsernameSuffix(base, pattern, suffixStart);
+    return max == null ? -1 : max;
+  }
+
+  private String format(String base, long suffix) {
+    return suffix <= 0 ? base : base + suffix;
+  }
+}
@@ -0,0 +1,127 @@
+package heekuu.table.answer.service;
+
+import static heekuu.table.support.JpaTestSupport.statistics;
+import static heekuu.table.support.JpaTestSupport.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import heekuu.table.answer.dto.AnswerDTO;
+import heekuu.table.answer.entity.Answer;
+import heekuu.table.answer.repository.AnswerRepository;
+import heekuu.table.comment.dto.CommentDTO;
+import heekuu.table.comment.entity.Comment;
+import heekuu.table.comment.repository.CommentRepository;
+import heekuu.table.comment.service.CommentService;
+import heekuu.table.forbidden.service.ForbiddenService;
+import heekuu.table.questions.entity.Question;
+import heekuu.table.questions.repository.QuestionRepository;
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.rewards.service.QuestionRewardService;
+import heekuu.table.user.entity.User;
+import heekuu.table.user.repository.CountRepository;
+import heekuu.table.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 답변/댓글 조회의 SQL 실행 횟수가 댓글 수, 작성자 수와 관계없이 고정인지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AnswerCommentStatementCountTest {
+
+  @Autowired
+  private AnswerRepository answerRepository;
+
+  @Autowired
+  private QuestionRepository questionRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private CountRepository countRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private AnswerServiceImpl answerService;
+  private CommentService commentService;
+
+  @BeforeEach
+  void setUp() {
+    answerService = new AnswerServiceImpl(answerRepository, questionRepository, userRepository,
+        mock(ForbiddenService.class), mock(QuestionRewardService.class),
+        mock(ApplicationEventPublisher.class), mock(AnswerLikeCounter.class),
+        mock(AnswerLikerSet.class));
+    commentService = new CommentService(commentRepository, answerRepository, userRepository,
+        countRepository, mock(ForbiddenService.class));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 20})
+  void getAnswerByIdRunsOneStatement(int commentCount) {
+    Long answerId = answerWithCommentsByDistinctAuthors(commentCount);
+    Statistics statistics = statistics(entityManagerFactory);
+
+    AnswerDTO answer = answerService.getAnswerById(answerId);
+
+    assertThat(answer.getComments()).hasSize(commentCount);
+    assertThat(answer.getComments()).extracting(CommentDTO::getUserId)
+        .doesNotContainNull()
+        .doesNotHaveDuplicates();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 20})
+  void getCommentsForAnswerRunsOneStatement(int commentCount) {
+    Long answerId = answerWithCommentsByDistinctAuthors(commentCount);
+    Statistics statistics = statistics(entityManagerFactory);
+
+    List<CommentDTO> comments = commentService.getCommentsForAnswer(answerId);
+
+    assertThat(comments).hasSize(commentCount);
+    assertThat(comments).extracting(CommentDTO::getUserId)
+        .doesNotContainNull()
+        .doesNotHaveDuplicates();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  // 댓글마다 서로 다른 작성자를 두고, 영속성 컨텍스트를 비워 조회 시 DB 에서 다시 읽게 함
+  private Long answerWithCommentsByDistinctAuthors(int commentCount) {
+    User questioner = entityManager.persist(user("questioner"));
+    Question question = entityManager.persist(Question.builder()
+        .user(questioner)
+        .title("title")
+        .subjectName(SubjectNames.MATHEMATICS)
+        .content("content")
+        .build());
+    Answer answer = entityManager.persist(Answer.builder()
+        .question(question)
+        .user(questioner)
+        .content("answer")
+        .build());
+
+    for (int i = 0; i < commentCount; i++) {
+      User author = entityManager.persist(user("author" + i));
+      entityManager.persist(new Comment(answer, author, "comment-" + i, null));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return answer.getAnswerId();
+  }
+}
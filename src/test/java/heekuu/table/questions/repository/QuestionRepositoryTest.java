@@ -0,0 +1,148 @@
+package heekuu.table.questions.repository;
+
+import static heekuu.table.support.JpaTestSupport.statistics;
+import static heekuu.table.support.JpaTestSupport.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import heekuu.table.questions.dto.QuestionSummary;
+import heekuu.table.questions.entity.Question;
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.user.dto.UserResponseDTO;
+import heekuu.table.user.entity.User;
+import heekuu.table.user.repository.UserRepository;
+import heekuu.table.user.type.Role;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QuestionRepositoryTest {
+
+  private static final int PAGE_SIZE = 50;
+  private static final Pageable LATEST = PageRequest.of(0, PAGE_SIZE,
+      Sort.by(Sort.Direction.DESC, "createdAt"));
+
+  @Autowired
+  private QuestionRepository questionRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private User author;
+  private User otherAuthor;
+
+  @BeforeEach
+  void setUp() {
+    author = entityManager.persist(user("author"));
+    otherAuthor = entityManager.persist(user("other"));
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      Question question = question(author, i % 2 == 0 ? SubjectNames.NEWS : SubjectNames.LIFE, i);
+      if (i % 5 == 0) {
+        question.markAsSolved();
+      }
+      entityManager.persist(question);
+    }
+    entityManager.persist(question(otherAuthor, SubjectNames.NEWS, PAGE_SIZE));
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void summaryCarriesListColumnsAndForeignKeyWithoutLoadingEntities() {
+    Statistics statistics = statistics(entityManagerFactory);
+
+    Page<QuestionSummary> page = questionRepository.findSummariesByUserId(author.getUserId(),
+        LATEST);
+
+    assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE);
+    assertThat(page.getContent()).allSatisfy(summary -> {
+      assertThat(summary.userId()).isEqualTo(author.getUserId());
+      assertThat(summary.title()).startsWith("title-");
+      assertThat(summary.createdAt()).isNotNull();
+    });
+    // 조회 1회 + count 1회, 엔티티와 User 프록시는 만들지 않음
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void summariesFilterBySolvedStatus() {
+    Page<QuestionSummary> solved = questionRepository.findSummariesByUserIdAndIsSolved(
+        author.getUserId(), true, LATEST);
+    Page<QuestionSummary> unsolved = questionRepository.findSummariesByUserIdAndIsSolved(
+        author.getUserId(), false, LATEST);
+
+    assertThat(solved.getTotalElements()).isEqualTo(PAGE_SIZE / 5);
+    assertThat(solved.getContent()).allMatch(QuestionSummary::isSolved);
+    assertThat(unsolved.getTotalElements()).isEqualTo(PAGE_SIZE - PAGE_SIZE / 5);
+    assertThat(unsolved.getContent()).noneMatch(QuestionSummary::isSolved);
+  }
+
+  @Test
+  void summariesFilterBySubject() {
+    Page<QuestionSummary> allNews = questionRepository.findSummariesBySubjectName(
+        SubjectNames.NEWS, LATEST);
+    Page<QuestionSummary> authorNews = questionRepository.findSummariesByUserIdAndSubjectName(
+        author.getUserId(), SubjectNames.NEWS, LATEST);
+
+    assertThat(allNews.getTotalElements()).isEqualTo(PAGE_SIZE / 2 + 1);
+    assertThat(authorNews.getTotalElements()).isEqualTo(PAGE_SIZE / 2);
+    assertThat(authorNews.getContent())
+        .allMatch(summary -> summary.subjectName() == SubjectNames.NEWS)
+        .allMatch(summary -> summary.userId().equals(author.getUserId()));
+  }
+
+  @Test
+  void userResponseProjectionMapsRole() {
+    List<UserResponseDTO> users = userRepository.findUserResponses();
+
+    assertThat(users).extracting(UserResponseDTO::getEmail)
+        .containsExactlyInAnyOrder("author@example.com", "other@example.com");
+    assertThat(userRepository.findUserResponseById(author.getUserId()))
+        .hasValueSatisfying(user -> assertThat(user.getRole()).isEqualTo(Role.USER.toString()));
+  }
+
+  /**
+   * 이전 방식(엔티티 페이지) 은 행마다 엔티티를 로딩하고 projection 페이지는 로딩하지 않음.
+   * 페이지당 할당량 비교는 src/jmh 의 QuestionPageBenchmark 에서 측정한다.
+   */
+  @Test
+  void summaryPageLoadsNoEntitiesUnlikeEntityPage() {
+    Statistics statistics = statistics(entityManagerFactory);
+    questionRepository.findAll(LATEST)
+        .map(question -> question.getTitle() + question.getUser().getUserId());
+    long entityPageLoads = statistics.getEntityLoadCount();
+    entityManager.clear();
+
+    statistics.clear();
+    questionRepository.findSummaries(LATEST)
+        .map(summary -> summary.title() + summary.userId());
+
+    assertThat(entityPageLoads).isEqualTo(PAGE_SIZE);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  private static Question question(User user, SubjectNames subject, int index) {
+    return Question.builder()
+        .user(user)
+        .title("title-" + index)
+        .subjectName(subject)
+        .content("content-" + index)
+        .build();
+  }
+}
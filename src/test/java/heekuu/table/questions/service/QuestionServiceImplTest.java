@@ -0,0 +1,81 @@
+package heekuu.table.questions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import heekuu.table.common.media.MediaStore;
+import heekuu.table.questions.dto.GetQuestionResponseDto;
+import heekuu.table.questions.dto.QuestionSummary;
+import heekuu.table.questions.repository.QuestionRepository;
+import heekuu.table.questions.type.SubjectNames;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionServiceImplTest {
+
+  private static final Long USER_ID = 1L;
+  private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+  @Mock
+  private QuestionRepository questionRepository;
+
+  @Mock
+  private MediaStore mediaStore;
+
+  @InjectMocks
+  private QuestionServiceImpl questionService;
+
+  // 이전에는 null 을 반환하던 메서드
+  @Test
+  void getQuestionsBySolvedStatusReturnsSummaryPage() {
+    QuestionSummary summary = summary(10L, SubjectNames.NEWS, true);
+    when(questionRepository.findSummariesByUserIdAndIsSolved(USER_ID, true, PAGEABLE))
+        .thenReturn(new PageImpl<>(List.of(summary), PAGEABLE, 1));
+    when(mediaStore.urlOf(anyString())).thenReturn("https://media/q-10.png");
+
+    Page<GetQuestionResponseDto> page =
+        questionService.getQuestionsBySolvedStatus(USER_ID, true, PAGEABLE);
+
+    assertThat(page).isNotNull();
+    assertThat(page.getContent()).singleElement().satisfies(dto -> {
+      assertThat(dto.getQuestionId()).isEqualTo(10L);
+      assertThat(dto.getUserId()).isEqualTo(USER_ID);
+      assertThat(dto.getImageUrl()).isEqualTo("https://media/q-10.png");
+    });
+  }
+
+  // 이전에는 null 을 반환하던 메서드
+  @Test
+  void getQuestionListBySubjectReturnsSummaryPage() {
+    QuestionSummary summary = summary(11L, SubjectNames.LIFE, false);
+    when(questionRepository.findSummariesByUserIdAndSubjectName(USER_ID, SubjectNames.LIFE,
+        PAGEABLE)).thenReturn(new PageImpl<>(List.of(summary), PAGEABLE, 1));
+
+    Page<GetQuestionResponseDto> page =
+        questionService.getQuestionListBySubject(USER_ID, SubjectNames.LIFE, PAGEABLE);
+
+    assertThat(page).isNotNull();
+    assertThat(page.getTotalElements()).isEqualTo(1);
+    assertThat(page.getContent()).singleElement().satisfies(dto -> {
+      assertThat(dto.getQuestionId()).isEqualTo(11L);
+      assertThat(dto.getSubjectName()).isEqualTo(SubjectNames.LIFE);
+    });
+  }
+
+  private static QuestionSummary summary(Long questionId, SubjectNames subject, boolean solved) {
+    LocalDateTime now = LocalDateTime.now();
+    return new QuestionSummary(questionId, USER_ID, subject, "title", "content",
+        solved ? "questions/q-" + questionId + ".png" : null, solved, now, now);
+  }
+}
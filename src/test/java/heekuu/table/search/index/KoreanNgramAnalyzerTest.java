@@ -0,0 +1,62 @@
+package heekuu.table.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import heekuu.table.questions.type.SubjectNames;
+import heekuu.table.search.dto.QuestionDocument;
+import heekuu.table.search.index.InvertedIndex.Hit;
+import heekuu.table.search.index.InvertedIndex.SearchFilter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KoreanNgramAnalyzerTest {
+
+  private static final SearchFilter NO_FILTER = new SearchFilter(null, null);
+
+  private final KoreanNgramAnalyzer analyzer = new KoreanNgramAnalyzer();
+
+  @Test
+  void compoundWordWithParticleContainsItsParts() {
+    List<String> tokens = analyzer.analyze("수학문제는");
+
+    assertThat(tokens).contains("수학", "학문", "문제", "제는", "수학문", "문제는");
+    assertThat(tokens).containsAll(analyzer.analyzeQuery("수학"));
+    assertThat(tokens).containsAll(analyzer.analyzeQuery("문제"));
+  }
+
+  @Test
+  void indexingAddsChoseongGramsButQueriesDoNot() {
+    assertThat(analyzer.analyze("수학")).contains("ㅅㅎ");
+    // "사회" 도 초성이 ㅅㅎ 이므로 검색어에서 초성 키를 만들면 "수학" 문서와 일치해 버림
+    assertThat(analyzer.analyzeQuery("사회")).containsExactly("사회");
+  }
+
+  @Test
+  void choseongQueryMatchesIndexedChoseongGrams() {
+    assertThat(analyzer.analyzeQuery("ㅅㅎㅁㅈ")).contains("ㅅㅎ", "ㅎㅁ", "ㅁㅈ", "ㅅㅎㅁ");
+    assertThat(analyzer.analyze("수학문제")).containsAll(analyzer.analyzeQuery("ㅅㅎㅁㅈ"));
+  }
+
+  @Test
+  void singleSyllableAndOtherScriptsAreKeptAsWords() {
+    assertThat(analyzer.analyze("집")).containsExactly("집", "ㅈ");
+    assertThat(analyzer.analyzeQuery("Java 17 수학")).containsExactly("java", "17", "수학");
+  }
+
+  @Test
+  void searchFindsQuestionBySyllablesAndChoseong() {
+    InvertedIndex index = new InvertedIndex(analyzer);
+    index.indexQuestion(new QuestionDocument(1L, "수학문제는 어렵다", "미분 질문입니다",
+        SubjectNames.MATHEMATICS, false));
+    index.indexQuestion(new QuestionDocument(2L, "사회 과목", "역사 질문입니다",
+        SubjectNames.LIFE, false));
+
+    assertThat(index.search("수학", NO_FILTER, null, 10)).extracting(Hit::id)
+        .containsExactly(1L);
+    // "사회" 도 초성 ㅅㅎ 를 가지지만 초성 n-gram 이 더 많이 겹치는 문서가 먼저 옴
+    assertThat(index.search("ㅅㅎㅁㅈ", NO_FILTER, null, 10)).extracting(Hit::id)
+        .startsWith(1L);
+    assertThat(index.search("사회", NO_FILTER, null, 10)).extracting(Hit::id)
+        .containsExactly(2L);
+  }
+}
@@ -0,0 +1,92 @@
+package heekuu.table.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PostingListTest {
+
+  // 1바이트, 2바이트, 3바이트, 5바이트 가변 길이 정수 경계를 모두 포함
+  private static final int[][] POSTINGS = {
+      {0, 1}, {1, 127}, {129, 128}, {16_513, 16_384}, {Integer.MAX_VALUE - 1, Integer.MAX_VALUE}
+  };
+
+  @Test
+  void forEachReturnsAddedPostingsInOrder() {
+    PostingList list = listOf(POSTINGS);
+
+    assertThat(list.size()).isEqualTo(POSTINGS.length);
+    assertThat(entries(list)).containsExactly(POSTINGS);
+  }
+
+  @Test
+  void snapshotRoundTripKeepsPostingsAndAllowsAppending() throws IOException {
+    PostingList list = listOf(POSTINGS);
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    list.writeTo(new DataOutputStream(buffer));
+    PostingList restored = PostingList.readFrom(
+        new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+
+    assertThat(restored.size()).isEqualTo(POSTINGS.length);
+    assertThat(entries(restored)).containsExactly(POSTINGS);
+
+    // 마지막 문서 번호도 복원되어야 이어서 추가할 수 있음
+    restored.add(Integer.MAX_VALUE, 3);
+    assertThat(entries(restored)).last().isEqualTo(new int[]{Integer.MAX_VALUE, 3});
+    assertThatThrownBy(() -> restored.add(5, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void addRejectsNonIncreasingDocNumbers() {
+    PostingList list = new PostingList();
+    list.add(3, 1);
+
+    assertThatThrownBy(() -> list.add(3, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> list.add(2, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void compactDropsDeletedDocsAndRenumbers() {
+    PostingList list = listOf(new int[][]{{0, 2}, {1, 1}, {3, 4}, {4, 1}});
+    int[] remap = {0, -1, 1, 1, 2}; // 1 삭제, 2 는 목록에 없음
+
+    PostingList compacted = list.compact(remap);
+
+    assertThat(compacted.size()).isEqualTo(3);
+    assertThat(entries(compacted)).containsExactly(new int[]{0, 2}, new int[]{1, 4},
+        new int[]{2, 1});
+    compacted.add(3, 1); // 정리 후에도 이어서 추가 가능
+    assertThat(compacted.size()).isEqualTo(4);
+  }
+
+  @Test
+  void compactOfOnlyDeletedDocsIsEmpty() {
+    PostingList compacted = listOf(new int[][]{{0, 1}, {1, 1}}).compact(new int[]{-1, -1});
+
+    assertThat(compacted.size()).isZero();
+    assertThat(entries(compacted)).isEmpty();
+  }
+
+  private static PostingList listOf(int[][] postings) {
+    PostingList list = new PostingList();
+    for (int[] posting : postings) {
+      list.add(posting[0], posting[1]);
+    }
+    return list;
+  }
+
+  private static List<int[]> entries(PostingList list) {
+    List<int[]> entries = new ArrayList<>();
+    list.forEach((doc, freq) -> entries.add(new int[]{doc, freq}));
+    return entries;
+  }
+}
@@ -0,0 +1,32 @@
+package heekuu.table.support;
+
+import heekuu.table.user.entity.User;
+import heekuu.table.user.type.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * @DataJpaTest 에서 공통으로 쓰는 픽스처와 Hibernate 통계 도우미
+ */
+public final class JpaTestSupport {
+
+  private JpaTestSupport() {
+  }
+
+  // 이전 측정값을 비운 통계 (generate_statistics=true 필요)
+  public static Statistics statistics(EntityManagerFactory entityManagerFactory) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    return statistics;
+  }
+
+  public static User user(String name) {
+    return User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .nickname(name)
+        .role(Role.USER)
+        .build();
+  }
+}